@@ -0,0 +1,181 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.expert.common.logging.SecurityEventLogger;
+import org.example.expert.common.logging.SecurityLogProperties;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * @Auth AuthUser 를 받는 TodoController 엔드포인트를 JwtFilter 부터 컨트롤러 응답까지 MockMvc 로 호출해서
+ * 인증 정보 전달 방식별 요청당 비용을 비교한다. TodoService 는 고정 응답을 돌려주므로 DB 비용은 포함하지 않는다.
+ * legacy 는 request attribute 세 개와 stream 기반 UserRole 조회를 사용하던 기존 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuthUserResolutionBenchmark {
+
+    private static final byte[] KEY_BYTES = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"GET /users/me/todos", "POST /todos", "DELETE /todos/{todoId}"})
+    public String endpoint;
+
+    private MockMvc legacyMvc;
+    private MockMvc requestScopedMvc;
+    private RequestBuilder request;
+
+    @Setup
+    public void setUp() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtUtil jwtUtil = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(KEY_BYTES));
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", false);
+        jwtUtil.init();
+
+        TodoController todoController = new TodoController(new FixedTodoService());
+        AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, new SecurityEventLogger(new SecurityLogProperties(), meterRegistry));
+
+        legacyMvc = MockMvcBuilders.standaloneSetup(todoController)
+                .setCustomArgumentResolvers(new LegacyAuthUserArgumentResolver(resolver))
+                .addFilters(legacyFilter(jwtUtil))
+                .build();
+        requestScopedMvc = MockMvcBuilders.standaloneSetup(todoController)
+                .setCustomArgumentResolvers(resolver)
+                .addFilters(jwtFilter)
+                .build();
+
+        String bearerToken = jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER);
+        request = switch (endpoint) {
+            case "GET /users/me/todos" -> get("/users/me/todos").header("Authorization", bearerToken);
+            case "POST /todos" -> post("/todos").header("Authorization", bearerToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"title\":\"title\",\"contents\":\"contents\"}");
+            case "DELETE /todos/{todoId}" -> delete("/todos/1").header("Authorization", bearerToken);
+            default -> throw new IllegalArgumentException(endpoint);
+        };
+
+        // 두 방식 모두 인증에 성공해서 컨트롤러까지 도달하는지 확인
+        for (MockMvc mockMvc : List.of(legacyMvc, requestScopedMvc)) {
+            int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+            if (status != 200) {
+                throw new IllegalStateException(endpoint + " 응답 상태: " + status);
+            }
+        }
+    }
+
+    @Benchmark
+    public int legacyAttributes() throws Exception {
+        return legacyMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    @Benchmark
+    public int requestScopedAuthUser() throws Exception {
+        return requestScopedMvc.perform(request).andReturn().getResponse().getStatus();
+    }
+
+    // 기존 JwtFilter: 검증은 같고, 인증 정보를 attribute 세 개로 나눠 저장한다
+    private static Filter legacyFilter(JwtUtil jwtUtil) {
+        return (servletRequest, servletResponse, chain) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) servletRequest;
+            VerifiedToken token = jwtUtil.verifyToken(jwtUtil.substringToken(httpRequest.getHeader("Authorization")));
+
+            UserRole userRole = UserRole.valueOf(token.getUserRole());
+            httpRequest.setAttribute("userId", token.getUserId());
+            httpRequest.setAttribute("email", token.getEmail());
+            httpRequest.setAttribute("userRole", userRole.name());
+
+            chain.doFilter(servletRequest, servletResponse);
+        };
+    }
+
+    // 기존 AuthUserArgumentResolver: attribute 세 개를 읽고 AuthUser 를 다시 조립한다
+    private static class LegacyAuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+        private final AuthUserArgumentResolver delegate;
+
+        private LegacyAuthUserArgumentResolver(AuthUserArgumentResolver delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return delegate.supportsParameter(parameter);
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+            HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
+
+            Long userId = (Long) request.getAttribute("userId");
+            String email = (String) request.getAttribute("email");
+            String role = (String) request.getAttribute("userRole");
+            UserRole userRole = Arrays.stream(UserRole.values())
+                    .filter(r -> r.name().equalsIgnoreCase(role))
+                    .findFirst()
+                    .orElseThrow();
+
+            return new AuthUser(userId, email, userRole);
+        }
+    }
+
+    // 인증 이후 단계의 비용을 빼기 위해 저장소 없이 고정 응답을 돌려준다
+    private static class FixedTodoService extends TodoService {
+
+        private final UserResponse user = UserResponse.of(1L, "asd@asd.com");
+        private final TodoResponse todo = TodoResponse.of(1L, "title", "contents", "Sunny", user,
+                LocalDateTime.of(2024, 9, 1, 12, 0), LocalDateTime.of(2024, 9, 1, 12, 0), 0, 0);
+
+        private FixedTodoService() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
+            return TodoSaveResponse.of(1L, todoSaveRequest.getTitle(), todoSaveRequest.getContents(), "Sunny",
+                    UserResponse.of(authUser.getId(), authUser.getEmail()));
+        }
+
+        @Override
+        public TodoCursorResponse getMyTodos(AuthUser authUser, String cursor, int size) {
+            return new TodoCursorResponse(List.of(todo), null, false);
+        }
+
+        @Override
+        public void deleteTodo(AuthUser authUser, long todoId) {
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 요청당 할당량을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final byte[] KEY_BYTES = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private Key key;
+    private JwtParser sharedParser;
+    private Hs256TokenVerifier verifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString(KEY_BYTES));
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", false);
+        jwtUtil.init();
+
+        key = Keys.hmacShaKeyFor(KEY_BYTES);
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifier = new Hs256TokenVerifier(KEY_BYTES);
+        token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+    }
+
+    @Benchmark
+    public Claims parserBuilderPerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken hs256FastPath() {
+        return verifier.verify(token);
+    }
+}
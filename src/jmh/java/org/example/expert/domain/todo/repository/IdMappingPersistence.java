@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.flywaydb.core.Flyway;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Flyway 로 만든 MySQL 모드 H2 스키마 위에 application.yml 과 같은 Hibernate 설정으로 TodoRepository, CommentRepository 를 띄운다.
+ * identity 는 META-INF/identity-id-orm.xml 로 엔티티 id 를 기존 IDENTITY 매핑으로 덮어쓰고,
+ * pooled 는 엔티티에 선언된 IdSequences @TableGenerator 매핑을 그대로 쓴다.
+ */
+class IdMappingPersistence {
+
+    static final long USER_ID = 1L;
+
+    final TodoRepository todoRepository;
+    final CommentRepository commentRepository;
+    final TransactionTemplate transactionTemplate;
+    final JdbcTemplate jdbcTemplate;
+    final User user = User.fromAuthUser(new AuthUser(USER_ID, "asd@asd.com", UserRole.USER));
+
+    private final SingleConnectionDataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    IdMappingPersistence(String databaseName, String idMapping) {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + databaseName + "-" + idMapping + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'asd@asd.com', 'pass', 'USER')", USER_ID);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("org.example.expert.domain");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        switch (idMapping) {
+            case "identity" -> factory.setMappingResources("META-INF/identity-id-orm.xml");
+            case "pooled" -> {
+            }
+            default -> throw new IllegalArgumentException(idMapping);
+        }
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true"
+        ));
+        factory.afterPropertiesSet();
+        entityManagerFactory = factory.getObject();
+
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        todoRepository = repositoryFactory.getRepository(TodoRepository.class);
+        commentRepository = repositoryFactory.getRepository(CommentRepository.class);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    void clear() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    void close() {
+        entityManagerFactory.close();
+        dataSource.destroy();
+    }
+}
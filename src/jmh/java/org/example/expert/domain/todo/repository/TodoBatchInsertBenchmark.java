@@ -0,0 +1,65 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.entity.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew jmh -Pjmh.includes=TodoBatchInsertBenchmark
+ * todo size 건(작성자 manager 포함)을 TodoRepository 로 저장하는 처리량을 MySQL 모드 H2 에서 비교한다.
+ * idMapping 이 identity 이면 기존 IDENTITY id 매핑, pooled 이면 IdSequences @TableGenerator 매핑이다.
+ * singleItemRequests 는 POST /todos 를 size 번 호출할 때처럼 건마다 트랜잭션을 열고 save 하고,
+ * batchRequest 는 POST /todos/batch 처럼 한 트랜잭션에서 saveAll 한다.
+ * 날씨는 두 경로 모두 캐시 hit 이므로 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoBatchInsertBenchmark {
+
+    @Param({"identity", "pooled"})
+    private String idMapping;
+
+    @Param({"10", "100", "500"})
+    private int size;
+
+    private IdMappingPersistence persistence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persistence = new IdMappingPersistence("todo-batch-benchmark", idMapping);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        persistence.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        persistence.close();
+    }
+
+    @Benchmark
+    public long singleItemRequests() {
+        long lastId = 0;
+        for (int i = 0; i < size; i++) {
+            Todo todo = Todo.create("title" + i, "contents", "Sunny", persistence.user);
+            lastId = persistence.transactionTemplate.execute(status -> persistence.todoRepository.save(todo).getId());
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public int batchRequest() {
+        List<Todo> todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(Todo.create("title" + i, "contents", "Sunny", persistence.user));
+        }
+
+        return persistence.transactionTemplate.execute(status -> persistence.todoRepository.saveAll(todos).size());
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew jmh -Pjmh.includes=TodoPageQueryBenchmark
+ * GET /todos 100건 페이지를 read-only 트랜잭션에서 읽어 TodoResponse 로 만드는 비용을 MySQL 모드 H2 에서 비교한다.
+ * gc 프로파일러의 gc.alloc.rate.norm 으로 페이지당 할당량을 본다.
+ * entities 는 기존 방식(Todo + user fetch join 후 엔티티에서 매핑), projection 은 TodoQueryDto 생성자 projection 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoPageQueryBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final String ORDER_BY = "ORDER BY t.modifiedAt DESC, t.id DESC";
+
+    private SingleConnectionDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:todo-page-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (long userId = 1; userId <= 10; userId++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'pass', 'USER')",
+                    userId, "user" + userId + "@asd.com");
+        }
+        for (long todoId = 1; todoId <= 1000; todoId++) {
+            jdbcTemplate.update("INSERT INTO todos (id, created_at, modified_at, title, contents, weather, user_id) " +
+                            "VALUES (?, DATEADD(SECOND, ?, TIMESTAMP '2024-09-01 00:00:00'), " +
+                            "DATEADD(SECOND, ?, TIMESTAMP '2024-09-01 00:00:00'), ?, ?, 'Sunny', ?)",
+                    todoId, todoId, todoId, "title" + todoId, "contents" + todoId, todoId % 10 + 1);
+        }
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("org.example.expert.domain");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "none",
+                // Spring Boot 기본값과 같은 컬럼 이름(created_at 등)을 쓴다
+                "hibernate.physical_naming_strategy", "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy"
+        ));
+        factory.afterPropertiesSet();
+
+        entityManagerFactory = factory.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        readOnlyTransaction = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public List<TodoResponse> entities() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery("SELECT t FROM Todo t JOIN FETCH t.user " + ORDER_BY, Todo.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> TodoResponse.of(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        UserResponse.of(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt(),
+                        todo.getCommentCount(),
+                        todo.getManagerCount()
+                ))
+                .toList());
+    }
+
+    @Benchmark
+    public List<TodoResponse> projection() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(TodoRepository.TODO_QUERY_DTO + ORDER_BY, TodoQueryDto.class)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(todo -> TodoResponse.of(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        UserResponse.of(todo.getUserId(), todo.getUserEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt(),
+                        todo.getCommentCount(),
+                        todo.getManagerCount()
+                ))
+                .toList());
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ./gradlew jmh -Pjmh.includes=TodoWithCommentsInsertBenchmark
+ * todo 하나와 manager, 댓글 comments 건을 한 트랜잭션에서 TodoRepository, CommentRepository 로 저장하는 처리량을
+ * MySQL 모드 H2 에서 비교한다.
+ * identity 는 기존 IDENTITY id 매핑이라 Hibernate 가 행마다 insert 하고 생성된 키를 받는다.
+ * pooled 는 IdSequences @TableGenerator 매핑과 hibernate.jdbc.batch_size 로 테이블별 batch insert 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TodoWithCommentsInsertBenchmark {
+
+    @Param({"identity", "pooled"})
+    private String idMapping;
+
+    @Param({"10", "100", "1000"})
+    private int comments;
+
+    private IdMappingPersistence persistence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        persistence = new IdMappingPersistence("todo-comments-benchmark", idMapping);
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        persistence.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        persistence.close();
+    }
+
+    @Benchmark
+    public int saveTodoWithComments() {
+        return persistence.transactionTemplate.execute(status -> {
+            Todo todo = persistence.todoRepository.save(Todo.create("title", "contents", "Sunny", persistence.user));
+
+            List<Comment> newComments = new ArrayList<>(comments);
+            for (int i = 0; i < comments; i++) {
+                newComments.add(Comment.create("comment" + i, persistence.user, todo));
+            }
+            return persistence.commentRepository.saveAll(newComments).size();
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 capacity 개를 들고 백분위수를 계산한다.
+ * <p>
+ * upstream 호출 빈도가 낮아 계산할 때마다 복사해서 정렬한다.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    public LatencyWindow(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity 는 1 이상이어야 합니다.");
+        }
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * 0 < percentile <= 1 인 백분위수(nearest-rank)를 반환한다. 표본이 없으면 -1.
+     */
+    public synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile * count);
+        return sorted[Math.min(Math.max(rank, 1), count) - 1];
+    }
+}
@@ -1,63 +1,441 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * weather.json 은 날짜별 날씨 전체 목록이므로 한 번 받아 MM-dd → 날씨 맵으로 들고 있는다.
+ * <p>
+ * ttl 이 지나면 기존 값을 그대로 반환하면서 백그라운드에서 다시 받는다(stale-while-revalidate).
+ * 자정 직전에도 미리 갱신해 날짜가 바뀐 뒤 첫 요청이 upstream 을 기다리지 않게 한다.
+ * 아직 한 번도 받지 못했을 때만 요청 스레드가 첫 조회를 기다린다.
+ * <p>
+ * upstream 호출은 커넥션을 재사용하는 JDK HttpClient 로 비동기 처리하고, 연속으로 실패하면
+ * 서킷 브레이커가 열려 upstream 을 호출하지 않고 마지막으로 받은 값을 계속 사용한다.
+ * <p>
+ * 받은 값은 weather.snapshot.path 에 저장해 두고 기동 시 먼저 읽으므로,
+ * 재시작 직후나 upstream 장애 중에도 첫 요청부터 마지막 값을 사용한다.
+ * <p>
+ * weather.api.urls 에 provider 를 여러 개 두면 첫 provider 가 최근 응답 시간의 weather.hedge.percentile
+ * 안에 답하지 않을 때 다음 provider 에 hedge 요청을 보내고 먼저 성공한 응답을 사용한다.
+ * 서킷 브레이커는 provider 전체를 하나로 보고, 모든 provider 가 실패했을 때만 실패로 센다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final List<URI> weatherApiUris;
+    private final Duration readTimeout;
+    private final Duration ttl;
+    private final Duration timeout;
+    private final String fallbackWeather;
+    private final Clock clock;
+    private final CircuitBreaker circuitBreaker;
+    private final WeatherSnapshotStore snapshotStore;
+    private final Timer fetchSuccessTimer;
+    private final Timer fetchFailureTimer;
+    private final Counter rejectedCounter;
+    private final Counter hedgeSentCounter;
+    private final Counter hedgeWonCounter;
+    private final LatencyWindow primaryLatencies;
+    private final double hedgePercentile;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<CompletableFuture<WeatherSnapshot>> initialFetch = new AtomicReference<>();
+
+    private volatile WeatherSnapshot snapshot;
+
+    @Autowired
+    public WeatherClient(WeatherProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(properties, objectMapper, meterRegistry, Clock.systemDefaultZone());
     }
 
-    public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+    WeatherClient(WeatherProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock) {
+        // HttpClient 는 내부 커넥션 풀로 keep-alive 커넥션을 재사용한다
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getApi().getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.objectMapper = objectMapper;
+        this.weatherApiUris = properties.getApi().getUrls().stream()
+                .map(WeatherClient::buildWeatherApiUri)
+                .toList();
+        if (weatherApiUris.isEmpty()) {
+            throw new IllegalArgumentException("weather.api.urls 가 비어 있습니다.");
+        }
+        this.readTimeout = properties.getApi().getReadTimeout();
+        this.ttl = properties.getCache().getTtl();
+        this.timeout = properties.getTimeout();
+        this.fallbackWeather = properties.getFallback();
+        this.clock = clock;
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getCircuitBreaker().getFailureThreshold(),
+                properties.getCircuitBreaker().getOpenDuration()
+        );
+        this.hedgePercentile = properties.getHedge().getPercentile();
+        // 조회가 드물어 표본이 모이기를 기다리면 hedge 가 사실상 켜지지 않으므로 기본 지연으로 창을 채워 두고 시작한다
+        this.primaryLatencies = new LatencyWindow(properties.getHedge().getWindowSize());
+        this.primaryLatencies.record(properties.getHedge().getInitialDelay().toNanos());
+        String snapshotPath = properties.getSnapshot().getPath();
+        this.snapshotStore = StringUtils.hasText(snapshotPath) ? new WeatherSnapshotStore(Path.of(snapshotPath)) : null;
+
+        this.fetchSuccessTimer = Timer.builder("weather.fetch").tag("outcome", "success").register(meterRegistry);
+        this.fetchFailureTimer = Timer.builder("weather.fetch").tag("outcome", "failure").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("weather.circuit.rejected").register(meterRegistry);
+        this.hedgeSentCounter = Counter.builder("weather.hedge.sent").register(meterRegistry);
+        this.hedgeWonCounter = Counter.builder("weather.hedge.won").register(meterRegistry);
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+    }
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    /**
+     * 트래픽을 받기 전에 저장해 둔 스냅샷을 읽는다. ttl 이 지났으면 첫 요청에서 백그라운드로 갱신한다.
+     */
+    @PostConstruct
+    public void loadSnapshot() {
+        if (snapshotStore == null || snapshot != null) {
+            return;
         }
+        snapshotStore.load().ifPresent(loaded -> {
+            snapshot = loaded;
+            log.info("저장된 날씨 스냅샷 사용: fetchedAt={}, dates={}", loaded.getFetchedAt(), loaded.getWeatherByDate().size());
+        });
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
+    // 요청 경로는 getTodayWeatherOrFallback 을 사용한다. 실패를 그대로 확인하는 테스트용
+    String getTodayWeather() {
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            current = awaitInitialSnapshot();
+        } else if (isExpired(current)) {
+            refreshAsync();
+        }
 
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+        String weather = current.weatherOn(getCurrentDate());
+        if (weather == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    /**
+     * getTodayWeather 와 같지만 실패하거나 첫 조회가 timeout 안에 끝나지 않으면 fallback 값을 반환한다.
+     * 요청 경로에서 upstream 장애가 todo 생성 실패로 이어지지 않게 할 때 사용한다.
+     */
+    public String getTodayWeatherOrFallback() {
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            try {
+                current = initialSnapshot().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("날씨 조회 실패, fallback 사용: weather={}, cause={}", fallbackWeather, e.toString());
+                return fallbackWeather;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return fallbackWeather;
+            }
+        } else if (isExpired(current)) {
+            refreshAsync();
         }
 
-        String today = getCurrentDate();
+        String weather = current.weatherOn(getCurrentDate());
+        return weather == null ? fallbackWeather : weather;
+    }
+
+    /**
+     * 자정 전에 미리 갱신한다. 실패하면 기존 값을 유지한다.
+     */
+    @Scheduled(cron = "${weather.cache.refresh-cron:0 50 23 * * *}")
+    public void refresh() {
+        try {
+            apply(fetchSnapshot().join());
+        } catch (CompletionException e) {
+            log.warn("날씨 데이터 갱신 실패, 기존 값 유지: uris={}, cause={}", weatherApiUris, e.getCause().toString());
+        }
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    WeatherSnapshot currentSnapshot() {
+        return snapshot;
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private WeatherSnapshot awaitInitialSnapshot() {
+        try {
+            return initialSnapshot().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
             }
+            throw e;
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    /**
+     * 첫 조회가 몰려도 upstream 호출은 한 번만 한다. 실패하면 다음 호출에서 다시 시도한다.
+     */
+    private CompletableFuture<WeatherSnapshot> initialSnapshot() {
+        CompletableFuture<WeatherSnapshot> future = initialFetch.get();
+        if (future != null) {
+            return future;
+        }
+
+        CompletableFuture<WeatherSnapshot> created = new CompletableFuture<>();
+        if (!initialFetch.compareAndSet(null, created)) {
+            return initialFetch.get();
+        }
+
+        fetchSnapshot().whenComplete((fetched, e) -> {
+            if (e != null) {
+                initialFetch.set(null);
+                created.completeExceptionally(unwrap(e));
+                return;
+            }
+            apply(fetched);
+            created.complete(fetched);
+        });
+        return created;
     }
 
-    private URI buildWeatherApiUri() {
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        fetchSnapshot().whenComplete((fetched, e) -> {
+            if (e == null) {
+                apply(fetched);
+            } else if (!(unwrap(e) instanceof CircuitOpenException)) {
+                // 서킷이 열려 있는 동안은 요청마다 로그를 남기지 않는다
+                log.warn("날씨 데이터 갱신 실패, 기존 값 유지: uris={}, cause={}", weatherApiUris, unwrap(e).toString());
+            }
+            refreshing.set(false);
+        });
+    }
+
+    private void apply(WeatherSnapshot fetched) {
+        snapshot = fetched;
+        if (snapshotStore != null) {
+            snapshotStore.save(fetched);
+        }
+    }
+
+    private boolean isExpired(WeatherSnapshot current) {
+        return !clock.instant().isBefore(current.getFetchedAt().plus(ttl));
+    }
+
+    private CompletableFuture<WeatherSnapshot> fetchSnapshot() {
+        if (!circuitBreaker.tryAcquire()) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new CircuitOpenException());
+        }
+
+        long start = System.nanoTime();
+        return new HedgedFetch().start()
+                .whenComplete((fetched, e) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (e == null) {
+                        circuitBreaker.onSuccess();
+                        fetchSuccessTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    } else {
+                        circuitBreaker.onFailure();
+                        fetchFailureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                    }
+                });
+    }
+
+    private CompletableFuture<WeatherSnapshot> fetchFrom(URI uri) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::toSnapshot);
+    }
+
+    /**
+     * 첫 provider 응답 시간의 백분위수. 창에는 항상 initialDelay 나 실제 표본이 하나 이상 있다.
+     */
+    private long hedgeDelayNanos() {
+        return primaryLatencies.percentile(hedgePercentile);
+    }
+
+    private WeatherSnapshot toSnapshot(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
+        }
+
+        WeatherDto[] weatherArray;
+        try {
+            weatherArray = objectMapper.readValue(response.body(), WeatherDto[].class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        return WeatherSnapshot.of(weatherArray, clock.instant());
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private static URI buildWeatherApiUri(String weatherApiUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(weatherApiUrl)
                 .encode()
                 .build()
                 .toUri();
     }
 
     private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+        return LocalDate.now(clock).format(DATE_FORMATTER);
+    }
+
+    /**
+     * provider 목록을 한 번 조회한다. 첫 provider 가 hedge 지연 안에 답하지 않으면 다음 provider 에 요청하고,
+     * 요청한 provider 가 실패하면 남은 provider 에 바로 요청한다. 먼저 성공한 응답으로 끝나고,
+     * 요청한 provider 가 모두 실패하면 마지막 예외로 실패한다.
+     * <p>
+     * 진 요청은 취소하지 않는다. 첫 provider 의 느린 응답도 표본에 남아야 hedge 지연이 낮게 치우치지 않고,
+     * 커넥션도 끊기지 않는다.
+     */
+    private class HedgedFetch {
+
+        private final CompletableFuture<WeatherSnapshot> result = new CompletableFuture<>();
+        // 아래 필드는 this 로 보호한다. result 완료와 다음 요청 전송은 lock 밖에서 해서
+        // 후속 작업(스냅샷 저장, 호출자 처리)이 늦게 온 응답이나 hedge 를 막지 않게 한다
+        private int launched;
+        private int failed;
+        private boolean finished;
+
+        private CompletableFuture<WeatherSnapshot> start() {
+            launch(reserveNext());
+            if (weatherApiUris.size() > 1) {
+                CompletableFuture.delayedExecutor(hedgeDelayNanos(), TimeUnit.NANOSECONDS).execute(this::hedge);
+            }
+            return result;
+        }
+
+        private void hedge() {
+            int index;
+            synchronized (this) {
+                // 이미 끝났거나 첫 provider 가 실패해 다음 provider 로 넘어갔으면 보내지 않는다
+                if (finished || launched > 1) {
+                    return;
+                }
+                index = launched++;
+            }
+            hedgeSentCounter.increment();
+            launch(index);
+        }
+
+        private synchronized int reserveNext() {
+            return launched++;
+        }
+
+        private void launch(int index) {
+            long start = System.nanoTime();
+            fetchFrom(weatherApiUris.get(index))
+                    .whenComplete((fetched, e) -> onComplete(index, start, fetched, e));
+        }
+
+        private void onComplete(int index, long start, WeatherSnapshot fetched, Throwable e) {
+            if (e == null) {
+                if (index == 0) {
+                    primaryLatencies.record(System.nanoTime() - start);
+                }
+                if (!claimResult()) {
+                    return;
+                }
+                // 결과를 완료하기 전에 세어야 호출자가 돌아온 직후 읽어도 won 이 반영되어 있다
+                if (index > 0) {
+                    hedgeWonCounter.increment();
+                }
+                result.complete(fetched);
+                return;
+            }
+
+            int next = -1;
+            boolean allFailed = false;
+            synchronized (this) {
+                failed++;
+                if (finished) {
+                    return;
+                }
+                if (launched < weatherApiUris.size()) {
+                    next = launched++;
+                } else if (failed == launched) {
+                    finished = true;
+                    allFailed = true;
+                }
+            }
+
+            if (next >= 0) {
+                launch(next);
+            } else if (allFailed) {
+                result.completeExceptionally(unwrap(e));
+            }
+        }
+
+        // 성공한 응답 중 처음 온 것만 true
+        private synchronized boolean claimResult() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            return true;
+        }
+    }
+
+    private static class CircuitOpenException extends ServerException {
+
+        private CircuitOpenException() {
+            super("날씨 서비스를 일시적으로 사용할 수 없습니다.");
+        }
     }
 }
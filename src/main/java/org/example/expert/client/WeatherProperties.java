@@ -0,0 +1,69 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * weather.* 설정.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather")
+public class WeatherProperties {
+
+    private Api api = new Api();
+    private Cache cache = new Cache();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Snapshot snapshot = new Snapshot();
+    private Hedge hedge = new Hedge();
+
+    // todo 생성 시 첫 조회를 기다리는 최대 시간
+    private Duration timeout = Duration.ofSeconds(2);
+    private String fallback = "Unknown";
+
+    @Getter
+    @Setter
+    public static class Api {
+        // 앞에서부터 우선순위. 첫 provider 가 늦으면 다음 provider 에 hedge 요청을 보낸다
+        private List<String> urls = List.of("https://f-api.github.io/f-api/weather.json");
+        private Duration connectTimeout = Duration.ofSeconds(1);
+        private Duration readTimeout = Duration.ofSeconds(3);
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private Duration ttl = Duration.ofHours(6);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 연속 실패가 이 횟수에 도달하면 열린다
+        private int failureThreshold = 5;
+        // 열린 뒤 시험 호출을 한 번 허용하기까지의 시간
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Snapshot {
+        // 비어 있으면 파일에 저장하지 않는다
+        private String path;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+        // 첫 provider 가 최근 응답 시간의 이 백분위수 안에 답하지 않으면 다음 provider 에 요청한다
+        private double percentile = 0.9;
+        // 응답 시간 창에 미리 넣어 두는 기본 hedge 지연. 실제 응답 시간이 windowSize 개 쌓이면 밀려난다
+        private Duration initialDelay = Duration.ofMillis(300);
+        // 조회는 하루 몇 번뿐이므로 너무 오래된 응답 시간이 남지 않도록 작게 둔다
+        private int windowSize = 32;
+    }
+}
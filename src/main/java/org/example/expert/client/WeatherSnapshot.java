@@ -0,0 +1,44 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * weather.json 을 한 번 파싱해 만든 MM-dd → 날씨 맵과 가져온 시각.
+ */
+public class WeatherSnapshot {
+
+    private final Map<String, String> weatherByDate;
+    private final Instant fetchedAt;
+
+    public WeatherSnapshot(Map<String, String> weatherByDate, Instant fetchedAt) {
+        this.weatherByDate = Map.copyOf(weatherByDate);
+        this.fetchedAt = fetchedAt;
+    }
+
+    public static WeatherSnapshot of(WeatherDto[] weatherArray, Instant fetchedAt) {
+        Map<String, String> weatherByDate = new HashMap<>();
+        for (WeatherDto weatherDto : weatherArray) {
+            // 같은 날짜가 여러 번 나오면 기존처럼 첫 번째 값을 사용
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
+            }
+        }
+        return new WeatherSnapshot(weatherByDate, fetchedAt);
+    }
+
+    public String weatherOn(String date) {
+        return weatherByDate.get(date);
+    }
+
+    public Map<String, String> getWeatherByDate() {
+        return weatherByDate;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+}
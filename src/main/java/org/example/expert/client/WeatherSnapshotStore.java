@@ -0,0 +1,125 @@
+package org.example.expert.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 마지막으로 받은 WeatherSnapshot 을 로컬 파일에 저장한다.
+ * <p>
+ * 형식은 첫 줄에 가져온 시각(epoch millis), 이후 한 줄에 하나씩 "MM-dd\t날씨" 이다.
+ * 같은 디렉터리의 임시 파일에 쓴 뒤 rename 으로 교체하므로 읽는 쪽은 이전 파일 또는 새 파일만 본다.
+ * 디렉터리를 만들 수 없거나 쓸 수 없으면 생성 시 한 번 경고하고 저장 없이 동작한다.
+ */
+@Slf4j
+public class WeatherSnapshotStore {
+
+    private final Path path;
+    private final boolean writable;
+
+    public WeatherSnapshotStore(Path path) {
+        this.path = path.toAbsolutePath();
+        this.writable = prepareDirectory(this.path.getParent());
+    }
+
+    boolean isWritable() {
+        return writable;
+    }
+
+    public Optional<WeatherSnapshot> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return Optional.empty();
+            }
+            Instant fetchedAt = Instant.ofEpochMilli(Long.parseLong(header.trim()));
+
+            Map<String, String> weatherByDate = new HashMap<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    throw new IOException("잘못된 날씨 스냅샷 형식: " + line);
+                }
+                weatherByDate.put(line.substring(0, tab), line.substring(tab + 1));
+            }
+            if (weatherByDate.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new WeatherSnapshot(weatherByDate, fetchedAt));
+        } catch (IOException | RuntimeException e) {
+            log.warn("날씨 스냅샷 파일을 읽지 못해 무시합니다: path={}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    public void save(WeatherSnapshot snapshot) {
+        if (!writable) {
+            return;
+        }
+        try {
+            Path directory = path.getParent();
+            Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try {
+                try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    writer.write(Long.toString(snapshot.getFetchedAt().toEpochMilli()));
+                    writer.newLine();
+                    for (Map.Entry<String, String> entry : snapshot.getWeatherByDate().entrySet()) {
+                        if (isStorable(entry.getKey()) && isStorable(entry.getValue())) {
+                            writer.write(entry.getKey());
+                            writer.write('\t');
+                            writer.write(entry.getValue());
+                            writer.newLine();
+                        }
+                    }
+                }
+                move(temp);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷 파일 저장 실패: path={}", path, e);
+        }
+    }
+
+    private boolean prepareDirectory(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException | SecurityException e) {
+            log.warn("날씨 스냅샷 디렉터리를 만들 수 없어 스냅샷을 저장하지 않습니다: path={}, cause={}", path, e.toString());
+            return false;
+        }
+        if (!Files.isWritable(directory)) {
+            log.warn("날씨 스냅샷 디렉터리에 쓸 수 없어 스냅샷을 저장하지 않습니다: path={}", path);
+            return false;
+        }
+        return true;
+    }
+
+    private void move(Path temp) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean isStorable(String value) {
+        return !value.isEmpty() && value.indexOf('\t') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.expert.client.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 @Getter
@@ -8,7 +10,8 @@ public class WeatherDto {
     private final String date;
     private final String weather;
 
-    public WeatherDto(String date, String weather) {
+    @JsonCreator
+    public WeatherDto(@JsonProperty("date") String date, @JsonProperty("weather") String weather) {
         this.date = date;
         this.weather = weather;
     }
@@ -9,6 +9,7 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -43,7 +44,8 @@ public class AdminLoggingAspect {
 
         String methodName = pjp.getSignature().getName();
 
-        Long userId = (Long) request.getAttribute("userId");
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+        Long userId = authUser != null ? authUser.getId() : null;
         String requestURI = request.getMethod() + "  " + request.getRequestURI();
         String requestBody = getRequestBody(pjp);
 
@@ -0,0 +1,125 @@
+package org.example.expert.common.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 인증 거절 같은 보안 이벤트 로그를 원인별로 샘플링한다.
+ * <p>
+ * 모든 이벤트는 security.events 카운터에 원인별로 집계하고,
+ * 상세 로그(예외가 있으면 스택 트레이스 포함)는 원인마다 window 당 정해진 수만 남긴다.
+ * 남기지 않은 건수는 주기적으로 원인별 요약 한 줄로 출력한다.
+ */
+@Slf4j
+@Component
+public class SecurityEventLogger {
+
+    private final SecurityLogProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, CauseStats> stats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SecurityEventLogger(SecurityLogProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    SecurityEventLogger(SecurityLogProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    public void info(String cause, String message, Object... args) {
+        log(Level.INFO, cause, null, message, args);
+    }
+
+    public void warn(String cause, String message, Object... args) {
+        log(Level.WARN, cause, null, message, args);
+    }
+
+    /**
+     * 예외 클래스의 simple name 을 원인으로 ERROR 로그를 남긴다.
+     */
+    public void error(Throwable cause, String message, Object... args) {
+        log(Level.ERROR, cause.getClass().getSimpleName(), cause, message, args);
+    }
+
+    @Scheduled(fixedDelayString = "${security.log.summary-interval:PT60S}")
+    public void logSummary() {
+        stats.forEach((cause, stat) -> {
+            long suppressed = stat.suppressed.sumThenReset();
+            if (suppressed > 0) {
+                log.warn("보안 이벤트 요약: cause={}, 생략={}건, 누적={}건", cause, suppressed, (long) stat.counter.count());
+            }
+        });
+    }
+
+    long totalCount(String cause) {
+        CauseStats stat = stats.get(cause);
+        return stat == null ? 0 : (long) stat.counter.count();
+    }
+
+    long suppressedCount(String cause) {
+        CauseStats stat = stats.get(cause);
+        return stat == null ? 0 : stat.suppressed.sum();
+    }
+
+    private void log(Level level, String cause, Throwable throwable, String message, Object... args) {
+        CauseStats stat = stats.computeIfAbsent(cause, this::newStats);
+        stat.counter.increment();
+
+        if (!stat.tryAcquire(nanoClock.getAsLong(), properties.getWindow().toNanos(), properties.detailsPerWindow(cause))) {
+            stat.suppressed.increment();
+            return;
+        }
+
+        log.atLevel(level)
+                .setCause(throwable)
+                .log(message, args);
+    }
+
+    private CauseStats newStats(String cause) {
+        Counter counter = Counter.builder("security.events")
+                .tag("cause", cause)
+                .register(meterRegistry);
+        return new CauseStats(counter, nanoClock.getAsLong());
+    }
+
+    private static class CauseStats {
+
+        private final Counter counter;
+        private final LongAdder suppressed = new LongAdder();
+        private final AtomicLong windowStart;
+        private final AtomicInteger detailed = new AtomicInteger();
+
+        private CauseStats(Counter counter, long now) {
+            this.counter = counter;
+            this.windowStart = new AtomicLong(now);
+        }
+
+        private boolean tryAcquire(long now, long windowNanos, int limit) {
+            long start = windowStart.get();
+            if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+                detailed.set(0);
+            }
+            // 폭주 중에는 증가시키지 않고 바로 거절해 overflow 를 막는다
+            if (detailed.get() >= limit) {
+                return false;
+            }
+            return detailed.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.common.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * security.log.* 설정.
+ * causes 의 키는 예외 클래스의 simple name(MalformedJwtException 등) 또는 missing-header, forbidden 같은 원인 이름이다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.log")
+public class SecurityLogProperties {
+
+    // 원인별로 상세 로그(스택 트레이스 포함)를 남기는 구간
+    private Duration window = Duration.ofMinutes(1);
+
+    // 구간마다 원인별로 남기는 상세 로그 수
+    private int detailsPerWindow = 5;
+
+    // 원인별 detailsPerWindow 재정의. 0 이면 카운터와 요약만 남긴다
+    private Map<String, Integer> causes = new HashMap<>();
+
+    public int detailsPerWindow(String cause) {
+        return causes.getOrDefault(cause, detailsPerWindow);
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.expert.common.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷을 lock striping 으로 관리하는 in-memory limiter.
+ * <p>
+ * 각 stripe 는 접근 순서 LinkedHashMap 을 갖고 있어서, 가득 찰 만큼 오래 쓰이지 않은 버킷은
+ * 가장 오래된 쪽부터 O(제거 수) 로 정리되고, stripe 당 최대 키 수를 넘으면 가장 오래된 키를 버린다.
+ * 다시 가득 찬 버킷은 새로 만든 버킷과 같으므로 정리해도 제한 결과는 달라지지 않는다.
+ */
+public class StripedTokenBucketLimiter {
+
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final long capacity;
+    private final long refillIntervalNanos;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final LongAdder evictions = new LongAdder();
+
+    public StripedTokenBucketLimiter(long capacity, Duration refillInterval, int maxKeys) {
+        this(DEFAULT_STRIPES, capacity, refillInterval, maxKeys, System::nanoTime);
+    }
+
+    StripedTokenBucketLimiter(int stripeCount, long capacity, Duration refillInterval, int maxKeys, LongSupplier nanoClock) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two");
+        }
+
+        this.mask = stripeCount - 1;
+        this.capacity = capacity;
+        this.refillIntervalNanos = refillInterval.toNanos();
+        this.idleTimeoutNanos = capacity * refillIntervalNanos;
+        this.nanoClock = nanoClock;
+
+        int maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(maxKeysPerStripe);
+        }
+    }
+
+    public boolean tryAcquire(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+        long now = nanoClock.getAsLong();
+
+        stripe.lock.lock();
+        try {
+            stripe.evictIdle(now);
+
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 직전에 tryAcquire 로 꺼낸 토큰 하나를 돌려준다. 다른 제한에 걸려 실제로 쓰이지 않은 시도에 사용한다.
+     */
+    public void refund(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & mask];
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    if (size() > maxKeys) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private void evictIdle(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext()) {
+                Bucket eldest = iterator.next();
+                if (now - eldest.lastAccessNanos < idleTimeoutNanos) {
+                    return;
+                }
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+        private long lastAccessNanos;
+
+        private Bucket(long tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillNanos = now;
+            this.lastAccessNanos = now;
+        }
+
+        private boolean tryConsume(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + (double) elapsed / refillIntervalNanos);
+                lastRefillNanos = now;
+            }
+            lastAccessNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+}
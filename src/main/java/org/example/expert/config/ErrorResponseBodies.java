@@ -0,0 +1,104 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {"status": ..., "code": ..., "message": ...} 형태의 에러 응답 본문을 byte[] 로 만든다.
+ * <p>
+ * 코드에 고정된 메시지만 기동 시 미리 직렬화해두고, 그 외 메시지는 캐시하지 않고 JsonGenerator 로 바로 쓴다.
+ * id, 이메일처럼 요청마다 달라지는 메시지가 캐시를 채우지 않도록 한다.
+ */
+public final class ErrorResponseBodies {
+
+    public static final String UNAUTHORIZED_MESSAGE = "인증이 필요합니다.";
+    public static final String FORBIDDEN_MESSAGE = "접근 권한이 없습니다.";
+    public static final String INTERNAL_ERROR_MESSAGE = "요청 처리 중 오류가 발생했습니다.";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Map<HttpStatus, Map<String, byte[]>> FIXED_BODIES = new EnumMap<>(HttpStatus.class);
+
+    static {
+        preserialize(HttpStatus.UNAUTHORIZED, UNAUTHORIZED_MESSAGE);
+        preserialize(HttpStatus.BAD_REQUEST, UNAUTHORIZED_MESSAGE);
+        preserialize(HttpStatus.FORBIDDEN, FORBIDDEN_MESSAGE);
+        preserialize(HttpStatus.INTERNAL_SERVER_ERROR, INTERNAL_ERROR_MESSAGE);
+
+        // 서비스에서 자주 던지는 고정 메시지
+        preserialize(HttpStatus.BAD_REQUEST, "Todo not found");
+        preserialize(HttpStatus.BAD_REQUEST, "User not found");
+        preserialize(HttpStatus.BAD_REQUEST, "Comment not found");
+        preserialize(HttpStatus.BAD_REQUEST, "Manager not found");
+        preserialize(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        preserialize(HttpStatus.BAD_REQUEST, "이미 존재하는 이메일입니다.");
+        preserialize(HttpStatus.BAD_REQUEST, "가입되지 않은 유저입니다.");
+        preserialize(HttpStatus.UNAUTHORIZED, "잘못된 비밀번호입니다.");
+        preserialize(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        preserialize(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private ErrorResponseBodies() {
+    }
+
+    public static byte[] of(HttpStatus status, String message) {
+        Map<String, byte[]> bodies = FIXED_BODIES.get(status);
+        if (bodies != null && message != null) {
+            byte[] body = bodies.get(message);
+            if (body != null) {
+                return body;
+            }
+        }
+        return serialize(status, message);
+    }
+
+    /**
+     * 검증 실패 본문. 필드별 오류를 errors 에 [{"field": ..., "message": ...}] 로 덧붙인다.
+     * 요청마다 내용이 달라 캐시하지 않는다.
+     */
+    public static byte[] of(HttpStatus status, String message, List<FieldError> fieldErrors) {
+        return serialize(status, message, fieldErrors);
+    }
+
+    // static 초기화에서만 호출하므로 이후에는 읽기만 한다
+    private static void preserialize(HttpStatus status, String message) {
+        FIXED_BODIES.computeIfAbsent(status, key -> new HashMap<>()).put(message, serialize(status, message));
+    }
+
+    private static byte[] serialize(HttpStatus status, String message) {
+        return serialize(status, message, null);
+    }
+
+    private static byte[] serialize(HttpStatus status, String message, List<FieldError> fieldErrors) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + (message == null ? 0 : message.length() * 3));
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("status", status.name());
+            generator.writeNumberField("code", status.value());
+            generator.writeStringField("message", message);
+            if (fieldErrors != null) {
+                generator.writeArrayFieldStart("errors");
+                for (FieldError fieldError : fieldErrors) {
+                    generator.writeStartObject();
+                    generator.writeStringField("field", fieldError.getField());
+                    generator.writeStringField("message", fieldError.getDefaultMessage());
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,22 +1,25 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.common.logging.SecurityEventLogger;
+import org.example.expert.common.logging.SecurityLogProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SecurityLogProperties.class)
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final SecurityEventLogger securityEventLogger;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil, objectMapper));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, securityEventLogger));
         registrationBean.addUrlPatterns("/*");
 
         return registrationBean;
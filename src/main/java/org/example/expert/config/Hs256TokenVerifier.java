@@ -0,0 +1,265 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JwtUtil.createToken 이 발급하는 형태의 HS256 토큰만 빠르게 검증한다.
+ * <p>
+ * 스레드별로 Mac 과 버퍼를 재사용하고 claims 를 Map 으로 만들지 않는다.
+ * 서명 키는 헤더의 kid 로 한 번에 찾으므로 허용하는 키 개수와 관계없이 MAC 계산은 한 번이다.
+ * 발급 형태와 다른 토큰(헤더/claim 구성이 다르거나, 만료되었거나, 서명이 틀린 경우)은
+ * null 을 반환하므로 호출하는 쪽에서 jjwt 로 다시 검증해 동일한 예외를 받도록 한다.
+ */
+public class Hs256TokenVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final byte[] BASE64_URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64_URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64_URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    // kid 헤더가 없는 토큰
+    private static final String NO_KID = "";
+
+    private final Map<String, SecretKeySpec> keySpecs;
+    private final ThreadLocal<Workspace> workspaces;
+
+    public Hs256TokenVerifier(byte[] keyBytes) {
+        this(keyBytes, Map.of());
+    }
+
+    public Hs256TokenVerifier(byte[] defaultKeyBytes, Map<String, byte[]> keyBytesByKid) {
+        Map<String, SecretKeySpec> keySpecs = new HashMap<>();
+        keyBytesByKid.forEach((kid, bytes) -> keySpecs.put(kid, new SecretKeySpec(bytes, ALGORITHM)));
+        keySpecs.put(NO_KID, new SecretKeySpec(defaultKeyBytes, ALGORITHM));
+
+        this.keySpecs = Map.copyOf(keySpecs);
+        this.workspaces = ThreadLocal.withInitial(Workspace::new);
+    }
+
+    public VerifiedToken verify(String token) {
+        int length = token.length();
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot <= firstDot + 1 || secondDot >= length - 1
+                || token.indexOf('.', secondDot + 1) >= 0) {
+            return null;
+        }
+
+        Workspace workspace = workspaces.get();
+        byte[] ascii = workspace.ascii(length);
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7F) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+
+        try {
+            byte[] decoded = workspace.decoded(length);
+
+            int headerLength = decode(ascii, 0, firstDot, decoded);
+            String kid = headerLength < 0 ? null : readKid(decoded, headerLength);
+            // 모르는 kid 는 jjwt 에서 서명 예외가 나도록 넘긴다
+            SecretKeySpec keySpec = kid == null ? null : keySpecs.get(kid);
+            if (keySpec == null || !workspace.signatureMatches(workspace.mac(kid, keySpec), ascii, secondDot, length)) {
+                return null;
+            }
+
+            int payloadLength = decode(ascii, firstDot + 1, secondDot, decoded);
+            if (payloadLength < 0) {
+                return null;
+            }
+            return readPayload(decoded, payloadLength);
+        } catch (IOException | GeneralSecurityException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 헤더가 alg=HS256 과 선택적인 kid 로만 이루어져 있으면 kid(없으면 NO_KID)를, 아니면 null 을 반환한다.
+     */
+    private String readKid(byte[] json, int length) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            boolean hs256 = false;
+            String kid = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value != JsonToken.VALUE_STRING) {
+                    return null;
+                }
+                if ("alg".equals(name) && "HS256".equals(parser.getText())) {
+                    hs256 = true;
+                } else if ("kid".equals(name) && kid == null && !parser.getText().isEmpty()) {
+                    kid = parser.getText();
+                } else {
+                    return null;
+                }
+            }
+            if (!hs256 || parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return null;
+            }
+            return kid == null ? NO_KID : kid;
+        }
+    }
+
+    private VerifiedToken readPayload(byte[] json, int length) throws IOException {
+        String subject = null;
+        String email = null;
+        String userRole = null;
+        long expiration = -1;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(json, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (name) {
+                    case "sub" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        subject = parser.getText();
+                    }
+                    case "email" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        email = parser.getText();
+                    }
+                    case "userRole" -> {
+                        if (value != JsonToken.VALUE_STRING) return null;
+                        userRole = parser.getText();
+                    }
+                    case "exp" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) return null;
+                        expiration = parser.getLongValue();
+                    }
+                    case "iat" -> {
+                        if (value != JsonToken.VALUE_NUMBER_INT) return null;
+                    }
+                    // nbf 등 발급하지 않는 claim 은 jjwt 에 맡긴다
+                    default -> {
+                        return null;
+                    }
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                return null;
+            }
+        }
+
+        // 만료된 토큰은 jjwt 가 ExpiredJwtException 을 던지도록 넘긴다
+        if (subject == null || expiration < 0 || System.currentTimeMillis() > expiration * 1000) {
+            return null;
+        }
+
+        return new VerifiedToken(Long.parseLong(subject), email, userRole, expiration);
+    }
+
+    /**
+     * padding 없는 Base64URL 을 dst 에 디코딩하고 길이를 반환한다. 형식이 틀리면 -1.
+     */
+    static int decode(byte[] src, int from, int to, byte[] dst) {
+        if ((to - from) % 4 == 1) {
+            return -1;
+        }
+
+        int written = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            int c = src[i];
+            int value = c < 0 ? -1 : BASE64_URL[c];
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                dst[written++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return written;
+    }
+
+    private static class Workspace {
+
+        private final Map<String, Mac> macs = new HashMap<>();
+        private final byte[] expected = new byte[MAC_LENGTH];
+        private final byte[] actual = new byte[MAC_LENGTH + 2];
+        private byte[] ascii = new byte[512];
+        private byte[] decoded = new byte[512];
+
+        private Mac mac(String kid, SecretKeySpec keySpec) {
+            return macs.computeIfAbsent(kid, k -> {
+                try {
+                    Mac mac = Mac.getInstance(ALGORITHM);
+                    mac.init(keySpec);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        private byte[] ascii(int length) {
+            if (ascii.length < length) {
+                ascii = new byte[length];
+            }
+            return ascii;
+        }
+
+        private byte[] decoded(int length) {
+            if (decoded.length < length) {
+                decoded = new byte[length];
+            }
+            return decoded;
+        }
+
+        private boolean signatureMatches(Mac mac, byte[] token, int signingInputLength, int length) throws ShortBufferException {
+            // 43자를 넘는 서명은 HS256 결과일 수 없으므로 디코딩하지 않는다
+            int signatureLength = length - signingInputLength - 1;
+            if (signatureLength != 43) {
+                return false;
+            }
+            if (decode(token, signingInputLength + 1, length, actual) != MAC_LENGTH) {
+                return false;
+            }
+
+            mac.update(token, 0, signingInputLength);
+            mac.doFinal(expected, 0);
+
+            int diff = 0;
+            for (int i = 0; i < MAC_LENGTH; i++) {
+                diff |= expected[i] ^ actual[i];
+            }
+            return diff == 0;
+        }
+    }
+}
@@ -1,28 +1,25 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.example.expert.common.logging.SecurityEventLogger;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
-@Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
-    private final ObjectMapper objectMapper;
+    private final SecurityEventLogger securityEventLogger;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -39,56 +36,52 @@ public class JwtFilter implements Filter {
         String bearerJwt = httpRequest.getHeader("Authorization");
 
         if (bearerJwt == null) {
-            log.warn("인증 헤더 누락: URI={}", url);
-            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+            securityEventLogger.warn("missing-header", "인증 헤더 누락: URI={}", url);
+            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, ErrorResponseBodies.UNAUTHORIZED_MESSAGE);
             return;
         }
 
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                log.warn("Claims 추출 실패: URI={}", url);
-                sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
-                return;
-            }
+            // JWT 유효성 검사와 필요한 claim 추출
+            VerifiedToken token = jwtUtil.verifyToken(jwt);
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            UserRole userRole = UserRole.of(token.getUserRole());
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            // resolver, aspect 가 다시 조립하지 않도록 AuthUser 를 한 번만 만들어 저장
+            httpRequest.setAttribute(AuthUser.REQUEST_ATTRIBUTE, new AuthUser(token.getUserId(), token.getEmail(), userRole));
 
             if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
-                log.warn("권한 부족: userId={}, role={}, URI={}", claims.getSubject(), userRole, url);
-                sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+                securityEventLogger.warn("forbidden", "권한 부족: userId={}, role={}, URI={}", token.getUserId(), userRole, url);
+                sendErrorResponse(httpResponse, HttpStatus.FORBIDDEN, ErrorResponseBodies.FORBIDDEN_MESSAGE);
                 return;
             }
 
             chain.doFilter(request, response);
         } catch (ExpiredJwtException e) {
-            log.info("JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), url);
-            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
-        } catch (SecurityException | MalformedJwtException | UnsupportedJwtException e) {
-            log.error("JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url, e);
-            sendErrorResponse(httpResponse, HttpStatus.BAD_REQUEST, "인증이 필요합니다.");
+            securityEventLogger.info("ExpiredJwtException", "JWT 만료: userId={}, URI={}", e.getClaims().getSubject(), url);
+            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, ErrorResponseBodies.UNAUTHORIZED_MESSAGE);
+        } catch (SecurityException e) {
+            // jjwt 의 SecurityException(서명 불일치, 키링에 없는 kid). java.lang.SecurityException 이 아니다
+            securityEventLogger.error(e, "JWT 서명 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url);
+            sendErrorResponse(httpResponse, HttpStatus.UNAUTHORIZED, ErrorResponseBodies.UNAUTHORIZED_MESSAGE);
+        } catch (MalformedJwtException | UnsupportedJwtException e) {
+            securityEventLogger.error(e, "JWT 검증 실패 [{}]: URI={}", e.getClass().getSimpleName(), url);
+            sendErrorResponse(httpResponse, HttpStatus.BAD_REQUEST, ErrorResponseBodies.UNAUTHORIZED_MESSAGE);
         } catch (Exception e) {
-            log.error("예상치 못한 오류: URI={}", url, e);
-            sendErrorResponse(httpResponse, HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리 중 오류가 발생했습니다.");
+            securityEventLogger.error(e, "예상치 못한 오류: URI={}", url);
+            sendErrorResponse(httpResponse, HttpStatus.INTERNAL_SERVER_ERROR, ErrorResponseBodies.INTERNAL_ERROR_MESSAGE);
         }
     }
 
     private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        // 미리 직렬화된 본문을 그대로 쓴다
+        byte[] body = ErrorResponseBodies.of(status, message);
+
         response.setStatus(status.value());
         response.setContentType("application/json;charset=UTF-8");
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("status", status.name());
-        errorResponse.put("code", status.value());
-        errorResponse.put("message", message);
-
-        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 }
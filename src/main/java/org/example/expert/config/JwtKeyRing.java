@@ -0,0 +1,99 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * kid 로 찾는 HMAC 서명 키 묶음. 한 번 만들면 바뀌지 않으며, 키를 교체할 때는 새 인스턴스로 갈아끼운다.
+ * <p>
+ * 키링 파일은 properties 형식이다.
+ * <pre>
+ * active=2026-10
+ * key.2026-10=base64 secret
+ * key.2026-04=base64 secret
+ * </pre>
+ * kid 헤더가 없는 토큰은 jwt.secret.key 로 만든 기본 키로 검증한다.
+ */
+public class JwtKeyRing {
+
+    private static final String ACTIVE = "active";
+    private static final String KEY_PREFIX = "key.";
+
+    private final String activeKid;
+    private final byte[] defaultSecret;
+    private final SecretKey defaultKey;
+    private final Map<String, byte[]> secrets;
+    private final Map<String, SecretKey> keys;
+
+    private JwtKeyRing(String activeKid, byte[] defaultSecret, Map<String, byte[]> secrets) {
+        if (activeKid != null && !secrets.containsKey(activeKid)) {
+            throw new IllegalArgumentException("활성 kid 에 해당하는 키가 없습니다: " + activeKid);
+        }
+
+        Map<String, SecretKey> keys = new HashMap<>();
+        secrets.forEach((kid, secret) -> keys.put(kid, Keys.hmacShaKeyFor(secret)));
+
+        this.activeKid = activeKid;
+        this.defaultSecret = defaultSecret;
+        this.defaultKey = Keys.hmacShaKeyFor(defaultSecret);
+        this.secrets = Map.copyOf(secrets);
+        this.keys = Map.copyOf(keys);
+    }
+
+    public static JwtKeyRing of(byte[] defaultSecret) {
+        return new JwtKeyRing(null, defaultSecret, Map.of());
+    }
+
+    public static JwtKeyRing load(Path path, byte[] defaultSecret) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<String, byte[]> secrets = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(KEY_PREFIX) && name.length() > KEY_PREFIX.length()) {
+                secrets.put(name.substring(KEY_PREFIX.length()), Base64.getDecoder().decode(properties.getProperty(name).trim()));
+            }
+        }
+
+        String activeKid = properties.getProperty(ACTIVE);
+        return new JwtKeyRing(activeKid == null ? null : activeKid.trim(), defaultSecret, secrets);
+    }
+
+    /**
+     * 새 토큰에 넣을 kid. 키링 파일이 없거나 active 가 없으면 null 이고 기본 키로 서명한다.
+     */
+    public String activeKid() {
+        return activeKid;
+    }
+
+    public SecretKey activeKey() {
+        return activeKid == null ? defaultKey : keys.get(activeKid);
+    }
+
+    /**
+     * kid 에 해당하는 키. kid 가 null 이면 기본 키, 모르는 kid 면 null.
+     */
+    public SecretKey key(String kid) {
+        return kid == null ? defaultKey : keys.get(kid);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    Hs256TokenVerifier newVerifier() {
+        return new Hs256TokenVerifier(defaultSecret, secrets);
+    }
+}
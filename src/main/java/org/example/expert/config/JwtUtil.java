@@ -1,50 +1,154 @@
 package org.example.expert.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "JwtUtil")
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
+    // 캐시 키로 토큰 원문 대신 SHA-256 해시를 사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret.key}")
     private String secretKey;
-    private Key key;
+    @Value("${jwt.cache.enabled:true}")
+    private boolean cacheEnabled;
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+    @Value("${jwt.keyring.path:}")
+    private String keyRingPath;
+
+    private byte[] defaultSecret;
+    // 키 교체 시 keyRing 과 hs256TokenVerifier 를 함께 바꾼다
+    private volatile JwtKeyRing keyRing;
+    private volatile Hs256TokenVerifier hs256TokenVerifier;
+    private FileTime keyRingModifiedTime;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> tokenCache;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        defaultSecret = Base64.getDecoder().decode(secretKey);
+        keyRingModifiedTime = null;
+        if (StringUtils.hasText(keyRingPath)) {
+            try {
+                reloadKeyRing();
+            } catch (IOException e) {
+                throw new IllegalStateException("JWT 키링 파일을 읽을 수 없습니다: " + keyRingPath, e);
+            }
+        } else {
+            applyKeyRing(JwtKeyRing.of(defaultSecret));
+        }
+
+        // JwtParser 는 thread-safe 하므로 한 번만 만들어 재사용하고, 키는 kid 로 현재 키링에서 찾는다
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new KeyRingResolver())
+                .build();
+
+        tokenCache = cacheEnabled ? buildTokenCache() : null;
+    }
+
+    /**
+     * 키링 파일이 바뀌었으면 다시 읽는다. 읽기에 실패하면 기존 키링을 유지한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keyring.reload-interval:PT30S}")
+    public void reloadKeyRingIfModified() {
+        if (!StringUtils.hasText(keyRingPath)) {
+            return;
+        }
+
+        try {
+            FileTime modifiedTime = Files.getLastModifiedTime(Path.of(keyRingPath));
+            if (!modifiedTime.equals(keyRingModifiedTime)) {
+                reloadKeyRing();
+                // 제거된 키로 검증했던 토큰이 남지 않도록 비운다
+                if (tokenCache != null) {
+                    tokenCache.invalidateAll();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("JWT 키링 갱신 실패, 기존 키링 유지: path={}", keyRingPath, e);
+        }
+    }
+
+    private void reloadKeyRing() throws IOException {
+        Path path = Path.of(keyRingPath);
+        FileTime modifiedTime = Files.getLastModifiedTime(path);
+        JwtKeyRing loaded = JwtKeyRing.load(path, defaultSecret);
+
+        applyKeyRing(loaded);
+        keyRingModifiedTime = modifiedTime;
+        log.info("JWT 키링 적용: activeKid={}, keys={}", loaded.activeKid(), loaded.size());
+    }
+
+    private void applyKeyRing(JwtKeyRing loaded) {
+        hs256TokenVerifier = loaded.newVerifier();
+        keyRing = loaded;
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
+        JwtKeyRing current = keyRing;
+
+        JwtBuilder builder = Jwts.builder();
+        if (current.activeKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, current.activeKid());
+        }
 
         return BEARER_PREFIX +
-                Jwts.builder()
+                builder
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                        .signWith(current.activeKey(), signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
@@ -55,11 +159,91 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
+    /**
+     * 이미 검증한 토큰이면 캐시된 결과를 반환한다. 캐시에 없으면 직접 발급한 형태의 토큰은 빠른 경로로,
+     * 그 외에는 jjwt 로 검증한다. 검증 실패 시 예외는 jjwt 가 던지는 것과 동일하다.
+     */
+    public VerifiedToken verifyToken(String token) {
+        if (tokenCache == null) {
+            return verify(token);
+        }
+
+        // 서명 검증과 payload 파싱을 생략
+        String cacheKey = hash(token);
+        VerifiedToken cached = tokenCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = verify(token);
+        if (verified.getExpiration() != Long.MAX_VALUE) {
+            tokenCache.put(cacheKey, verified);
+        }
+        return verified;
+    }
+
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private VerifiedToken verify(String token) {
+        VerifiedToken verified = hs256TokenVerifier.verify(token);
+        if (verified != null) {
+            return verified;
+        }
+        return VerifiedToken.from(extractClaims(token));
+    }
+
+    private Cache<String, VerifiedToken> buildTokenCache() {
+        Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.token");
+        return cache;
+    }
+
+    private String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * 헤더의 kid 로 현재 키링에서 키를 찾는다. 여러 키를 차례로 시도하지 않는다.
+     */
+    private class KeyRingResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key key = keyRing.key(header.getKeyId());
+            if (key == null) {
+                throw new SignatureException("Unknown JWT kid: " + header.getKeyId());
+            }
+            return key;
+        }
+    }
+
+    /**
+     * 캐시 항목이 토큰의 exp 시각에 만료되도록 한다.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            long remainingMillis = TimeUnit.SECONDS.toMillis(token.getExpiration()) - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -1,17 +1,101 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class PasswordEncoder {
 
+    private static final char[] CALIBRATION_PASSWORD = "calibration-Password1".toCharArray();
+
+    private final PasswordHashExecutor passwordHashExecutor;
+
+    @Value("${password.bcrypt.calibration.enabled:true}")
+    private boolean calibrationEnabled;
+    @Value("${password.bcrypt.target-millis:250}")
+    private long targetMillis;
+    @Value("${password.bcrypt.max-cost:14}")
+    private int maxCost;
+
+    private volatile int cost = BCrypt.MIN_COST;
+
+    /**
+     * 현재 장비에서 해시 1회가 target-millis 를 넘지 않는 가장 높은 cost 를 고른다.
+     */
+    @PostConstruct
+    public void calibrate() {
+        if (!calibrationEnabled) {
+            return;
+        }
+
+        int calibrated = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= maxCost; candidate++) {
+            long start = System.nanoTime();
+            BCrypt.withDefaults().hash(candidate, CALIBRATION_PASSWORD);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (elapsedMillis > targetMillis) {
+                break;
+            }
+            calibrated = candidate;
+
+            // cost 가 1 오를 때마다 시간이 두 배가 되므로 다음 후보는 측정하지 않아도 된다
+            if (elapsedMillis * 2 > targetMillis) {
+                break;
+            }
+        }
+
+        cost = calibrated;
+        log.info("bcrypt cost 보정 완료: cost={}, targetMillis={}", cost, targetMillis);
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified;
     }
+
+    /**
+     * 저장된 해시의 cost 가 현재 cost 보다 낮으면 true. 형식: $2a$10$...
+     * 보정 결과는 장비마다 다르므로 더 높은 cost 를 낮추지는 않는다. 그러면 인스턴스마다 올렸다 내렸다를 반복한다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(3) != '$') {
+            return false;
+        }
+
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        return passwordHashExecutor.submit(() -> encode(rawPassword));
+    }
+
+    /**
+     * 재해시용. 백그라운드 큐가 가득 차면 Optional.empty() 를 반환한다.
+     */
+    public Optional<CompletableFuture<String>> encodeInBackground(String rawPassword) {
+        return passwordHashExecutor.trySubmitInBackground(() -> encode(rawPassword));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(String rawPassword, String encodedPassword) {
+        return passwordHashExecutor.submit(() -> matches(rawPassword, encodedPassword));
+    }
 }
@@ -0,0 +1,95 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 처럼 CPU 를 많이 쓰는 해시 연산을 Tomcat 요청 스레드 대신 실행하는 전용 풀.
+ * 큐가 가득 차면 기다리지 않고 바로 503 으로 거절한다.
+ * 응답과 무관한 재해시는 스레드 하나와 작은 큐를 따로 써서 사용자 요청의 큐를 차지하지 않고, 가득 차면 버린다.
+ */
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor backgroundExecutor;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${password.hash.pool-size:0}") int poolSize,
+            @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hash.background-queue-capacity:16}") int backgroundQueueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.backgroundExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(backgroundQueueCapacity),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.hashTimer = Timer.builder("password.hash.latency")
+                .description("bcrypt 해시/검증 소요 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("큐가 가득 차서 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("대기 중인 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> hashTimer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 큐가 가득 차면 예외 없이 Optional.empty() 를 반환한다.
+     */
+    public <T> Optional<CompletableFuture<T>> trySubmitInBackground(Supplier<T> task) {
+        try {
+            return Optional.of(CompletableFuture.supplyAsync(() -> hashTimer.record(task), backgroundExecutor));
+        } catch (RejectedExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        backgroundExecutor.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 검증이 끝난 JWT 에서 필요한 값만 담아두는 불변 객체.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final String userRole;
+    private final long expiration; // epoch seconds
+
+    public VerifiedToken(Long userId, String email, String userRole, long expiration) {
+        this.userId = userId;
+        this.email = email;
+        this.userRole = userRole;
+        this.expiration = expiration;
+    }
+
+    public static VerifiedToken from(Claims claims) {
+        Date expiration = claims.getExpiration();
+
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("userRole", String.class),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime() / 1000
+        );
+    }
+}
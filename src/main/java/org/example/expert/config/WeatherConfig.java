@@ -0,0 +1,10 @@
+package org.example.expert.config;
+
+import org.example.expert.client.WeatherProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WeatherProperties.class)
+public class WeatherConfig {
+}
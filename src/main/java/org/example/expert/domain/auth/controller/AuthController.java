@@ -1,5 +1,6 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -7,23 +8,31 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninAttemptLimiter;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 public class AuthController {
 
     private final AuthService authService;
+    private final SigninAttemptLimiter signinAttemptLimiter;
 
+    // CompletableFuture 를 반환하면 bcrypt 가 끝날 때까지 요청 스레드를 반납한다(Spring MVC 비동기 처리)
     @PostMapping("/auth/signup")
-    public SignupResponse signup(@Valid @RequestBody SignupRequest signupRequest) {
+    public CompletableFuture<SignupResponse> signup(@Valid @RequestBody SignupRequest signupRequest) {
         return authService.signup(signupRequest);
     }
 
+    // 프록시 뒤에서는 server.forward-headers-strategy 와 신뢰하는 프록시 설정(application.yml)이 있어야
+    // getRemoteAddr() 가 프록시가 아니라 실제 클라이언트 IP 가 된다
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
+    public CompletableFuture<SigninResponse> signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        signinAttemptLimiter.acquire(signinRequest.getEmail(), request.getRemoteAddr());
         return authService.signin(signinRequest);
     }
 }
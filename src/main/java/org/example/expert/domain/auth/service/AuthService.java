@@ -1,6 +1,7 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
@@ -12,9 +13,14 @@ import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -22,16 +28,31 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    // 해시 이후의 저장, 토큰 발급은 해시 풀이 아니라 Spring 기본 task executor(MVC 비동기 처리와 같은 풀)에서 실행한다
+    @Qualifier("applicationTaskExecutor")
+    private final Executor callbackExecutor;
 
-    @Transactional
-    public SignupResponse signup(SignupRequest signupRequest) {
+    /**
+     * bcrypt 는 해시 풀에서 실행하고 요청 스레드는 기다리지 않는다.
+     * 저장과 토큰 발급은 callbackExecutor 에서 이어서 실행해서 DB 가 느려도 해시 워커를 붙잡지 않는다.
+     * bcrypt 를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션을 걸지 않는다.
+     */
+    public CompletableFuture<SignupResponse> signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // 필터에 없으면 처음 보는 이메일이므로 existsByEmail 조회를 생략한다
+        if (registeredEmailFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            registeredEmailFilter.recordFalsePositive();
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        return passwordEncoder.encodeAsync(signupRequest.getPassword())
+                .thenApplyAsync(encodedPassword -> saveUser(signupRequest, encodedPassword), callbackExecutor);
+    }
 
+    private SignupResponse saveUser(SignupRequest signupRequest, String encodedPassword) {
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
         User newUser = User.create(
@@ -39,25 +60,55 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 이메일로 가입한 경우 unique 제약이 최종 판단
+            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        }
+        registeredEmailFilter.put(savedUser.getEmail());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
 
         return SignupResponse.of(bearerToken);
     }
 
-    @Transactional(readOnly = true)
-    public SigninResponse signin(SigninRequest signinRequest) {
+    public CompletableFuture<SigninResponse> signin(SigninRequest signinRequest) {
         User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
-        // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
-            throw new AuthException("잘못된 비밀번호입니다.");
-        }
+        return passwordEncoder.matchesAsync(signinRequest.getPassword(), user.getPassword())
+                .thenApplyAsync(matches -> {
+                    // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
+                    if (!matches) {
+                        throw new AuthException("잘못된 비밀번호입니다.");
+                    }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+                    if (passwordEncoder.needsRehash(user.getPassword())) {
+                        rehashInBackground(user, signinRequest.getPassword());
+                    }
 
-        return SigninResponse.of(bearerToken);
+                    String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+
+                    return SigninResponse.of(bearerToken);
+                }, callbackExecutor);
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 응답을 막지 않고 백그라운드에서 다시 해시한다
+    private void rehashInBackground(User user, String rawPassword) {
+        Long userId = user.getId();
+        String oldPassword = user.getPassword();
+
+        passwordEncoder.encodeInBackground(rawPassword).ifPresentOrElse(
+                future -> future
+                        .thenAccept(newPassword -> userRepository.updatePassword(userId, oldPassword, newPassword))
+                        .exceptionally(e -> {
+                            log.warn("비밀번호 재해시 실패: userId={}", userId, e);
+                            return null;
+                        }),
+                // 재해시 큐가 가득 차면 이번에는 건너뛰고 다음 로그인 때 다시 시도
+                () -> log.debug("비밀번호 재해시 보류: userId={}", userId)
+        );
     }
 }
@@ -0,0 +1,136 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.common.bloom.BloomFilter;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 Bloom filter.
+ * 없다고 판단되면 existsByEmail 조회를 생략하고, 있을 수도 있으면 DB 로 확인한다.
+ * 최종 판단은 언제나 User.email 의 unique 제약이다.
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter negativeCounter;
+    private final Counter positiveCounter;
+    private final Counter falsePositiveCounter;
+    private final Timer rebuildTimer;
+
+    // 적재가 끝나기 전에는 null 이고, 이때는 항상 DB 로 확인한다
+    private volatile BloomFilter current;
+    private volatile BloomFilter rebuilding;
+
+    public RegisteredEmailFilter(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${auth.signup.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${auth.signup.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.negativeCounter = Counter.builder("auth.signup.email-filter.checks")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.positiveCounter = Counter.builder("auth.signup.email-filter.checks")
+                .tag("result", "positive")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("auth.signup.email-filter.false-positives")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("auth.signup.email-filter.rebuild")
+                .register(meterRegistry);
+        Gauge.builder("auth.signup.email-filter.expected-fpp", this, RegisteredEmailFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+        Gauge.builder("auth.signup.email-filter.observed-fpp", this, RegisteredEmailFilter::observedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+
+        try {
+            rebuildTimer.record(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.forEach(email -> next.put(normalize(email)));
+                }
+            }));
+            current = next;
+            log.info("가입 이메일 필터 적재 완료: count={}", next.insertionCount());
+        } catch (RuntimeException e) {
+            log.error("가입 이메일 필터 적재 실패, DB 조회로 대신합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    public boolean mightContain(String email) {
+        BloomFilter filter = current;
+        if (filter == null) {
+            return true;
+        }
+
+        boolean result = filter.mightContain(normalize(email));
+        (result ? positiveCounter : negativeCounter).increment();
+        return result;
+    }
+
+    public void put(String email) {
+        String normalized = normalize(email);
+
+        // 재적재 중에 가입한 이메일이 새 필터에서 빠지지 않도록 양쪽에 넣는다
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(normalized);
+        }
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(normalized);
+        }
+    }
+
+    public void recordFalsePositive() {
+        if (current != null) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter filter = current;
+        return filter == null ? 1.0 : filter.expectedFalsePositiveRate();
+    }
+
+    private double observedFalsePositiveRate() {
+        double checks = positiveCounter.count() + negativeCounter.count();
+        return checks == 0 ? 0 : falsePositiveCounter.count() / checks;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
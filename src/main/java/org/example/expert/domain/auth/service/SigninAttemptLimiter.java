@@ -0,0 +1,75 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.common.ratelimit.StripedTokenBucketLimiter;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 로그인 시도를 이메일, 클라이언트 IP 기준으로 제한한다.
+ * DB 조회와 bcrypt 검증 전에 호출해서 초과 요청은 비용 없이 거절한다.
+ * 클라이언트 IP 는 server.forward-headers-strategy 로 신뢰하는 프록시의 X-Forwarded-For 를 반영한 값이어야 한다.
+ */
+@Component
+public class SigninAttemptLimiter {
+
+    private static final String REJECT_MESSAGE = "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final StripedTokenBucketLimiter emailLimiter;
+    private final StripedTokenBucketLimiter ipLimiter;
+    private final Counter allowedCounter;
+    private final Counter rejectedByEmailCounter;
+    private final Counter rejectedByIpCounter;
+
+    public SigninAttemptLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.signin.rate-limit.email.capacity:5}") long emailCapacity,
+            @Value("${auth.signin.rate-limit.email.refill-interval:60s}") Duration emailRefillInterval,
+            @Value("${auth.signin.rate-limit.ip.capacity:30}") long ipCapacity,
+            @Value("${auth.signin.rate-limit.ip.refill-interval:2s}") Duration ipRefillInterval,
+            @Value("${auth.signin.rate-limit.max-keys:1000000}") int maxKeys
+    ) {
+        this.emailLimiter = new StripedTokenBucketLimiter(emailCapacity, emailRefillInterval, maxKeys);
+        this.ipLimiter = new StripedTokenBucketLimiter(ipCapacity, ipRefillInterval, maxKeys);
+
+        this.allowedCounter = Counter.builder("auth.signin.rate-limit.allowed").register(meterRegistry);
+        this.rejectedByEmailCounter = Counter.builder("auth.signin.rate-limit.rejected")
+                .tag("key", "email")
+                .register(meterRegistry);
+        this.rejectedByIpCounter = Counter.builder("auth.signin.rate-limit.rejected")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        registerLimiterMetrics(meterRegistry, "email", emailLimiter);
+        registerLimiterMetrics(meterRegistry, "ip", ipLimiter);
+    }
+
+    public void acquire(String email, String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            rejectedByIpCounter.increment();
+            throw new TooManyRequestsException(REJECT_MESSAGE);
+        }
+        if (!emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+            // 이메일 제한으로 거절된 시도는 IP 한도를 쓰지 않은 것으로 본다
+            ipLimiter.refund(clientIp);
+            rejectedByEmailCounter.increment();
+            throw new TooManyRequestsException(REJECT_MESSAGE);
+        }
+        allowedCounter.increment();
+    }
+
+    private static void registerLimiterMetrics(MeterRegistry meterRegistry, String key, StripedTokenBucketLimiter limiter) {
+        Gauge.builder("auth.signin.rate-limit.keys", limiter, StripedTokenBucketLimiter::size)
+                .tag("key", key)
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.signin.rate-limit.evictions", limiter, StripedTokenBucketLimiter::evictionCount)
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
@@ -3,9 +3,11 @@ package org.example.expert.domain.comment.repository;
 import org.example.expert.domain.comment.dto.response.CommentQueryDto;
 import org.example.expert.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,4 +18,9 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
         WHERE c.todo.id = :todoId
     """)
     List<CommentQueryDto> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 댓글을 엔티티로 읽지 않고 DELETE 한 문장으로 지운다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
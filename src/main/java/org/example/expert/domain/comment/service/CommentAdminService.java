@@ -1,8 +1,10 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoService todoService;
 
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.findById(commentId).orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new InvalidRequestException("Comment not found"));
+        todoService.addCommentCount(comment.getTodo().getId(), -1);
         commentRepository.deleteById(commentId);
     }
 }
@@ -38,6 +38,8 @@ public class CommentService {
                 todo
         );
 
+        // 카운터 UPDATE 로 todo 행을 먼저 잠가서 TodoCounterReconciler 와 같은 순서(todo → 댓글)로 잠근다
+        todoService.addCommentCount(todoId, 1);
         Comment savedComment = commentRepository.save(newComment);
 
         return CommentSaveResponse.of(
@@ -6,6 +6,9 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 public class AuthUser {
 
+    // JwtFilter 가 요청마다 한 번 만들어 저장하는 request attribute 이름
+    public static final String REQUEST_ATTRIBUTE = AuthUser.class.getName();
+
     private final Long id;
     private final String email;
     private final UserRole userRole;
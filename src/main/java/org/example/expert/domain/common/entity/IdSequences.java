@@ -0,0 +1,20 @@
+package org.example.expert.domain.common.entity;
+
+/**
+ * 엔티티 id 용 @TableGenerator 설정값.
+ * <p>
+ * id_sequences 테이블에서 ALLOCATION_SIZE 개 블록을 한 번에 예약하고(pooled hi/lo) 애플리케이션에서 할당한다.
+ * IDENTITY 와 달리 insert 전에 id 를 알 수 있으므로 Hibernate 가 insert 를 JDBC batch 로 묶을 수 있다.
+ * 블록 예약은 별도 트랜잭션의 행 잠금 UPDATE 이므로 인스턴스가 여러 대여도 id 가 겹치지 않는다.
+ * 예약한 블록을 다 쓰기 전에 종료하면 남은 id 는 건너뛴다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
@@ -2,10 +2,15 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.dto.response.ManagerQueryDto;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
@@ -16,4 +21,22 @@ public interface ManagerRepository extends JpaRepository<Manager, Long> {
         WHERE m.todo.id = :todoId  
     """)
     List<ManagerQueryDto> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 담당 todo 는 idx_managers_user_id_todo_id 순서(todo id 역순)로 읽고 todos 는 PK 로만 찾는다
+    // id 역순은 생성 순서를 보장하지 않는다(id 는 노드별로 미리 할당한 구간에서 나온다)
+    @Query(TodoRepository.TODO_QUERY_DTO_SELECT +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY m.todo.id DESC")
+    List<TodoQueryDto> findManagedTodos(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(TodoRepository.TODO_QUERY_DTO_SELECT +
+            "FROM Manager m JOIN m.todo t JOIN t.user u " +
+            "WHERE m.user.id = :userId AND m.todo.id < :todoId " +
+            "ORDER BY m.todo.id DESC")
+    List<TodoQueryDto> findManagedTodosBefore(@Param("userId") Long userId, @Param("todoId") Long todoId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Manager m WHERE m.todo.id IN :todoIds")
+    int deleteAllByTodoIdIn(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -48,6 +48,8 @@ public class ManagerService {
         }
 
         Manager newManagerUser = Manager.create(managerUser, todo);
+        // 카운터 UPDATE 로 todo 행을 먼저 잠가서 TodoCounterReconciler 와 같은 순서(todo → 담당자)로 잠근다
+        todoService.addManagerCount(todoId, 1);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
 
         return ManagerSaveResponse.of(
@@ -82,6 +84,7 @@ public class ManagerService {
             throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
         }
 
+        todoService.addManagerCount(todoId, -1);
         managerRepository.delete(manager);
     }
 }
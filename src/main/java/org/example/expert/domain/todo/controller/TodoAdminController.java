@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoAdminService todoAdminService;
+
+    @DeleteMapping("/admin/todos")
+    public void deleteTodos(@Valid @RequestBody TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        todoAdminService.deleteTodos(todoBulkDeleteRequest);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * /users/me/managed-todos 커서. 마지막으로 내려준 todo 의 id 만 담는다.
+ * 길이가 TodoCursor 와 달라서 /users/me/todos 의 커서를 넘기면 거절된다.
+ */
+@Getter
+public class ManagedTodoCursor {
+
+    private static final int ENCODED_BYTES = Long.BYTES;
+
+    private final Long todoId;
+
+    public ManagedTodoCursor(Long todoId) {
+        this.todoId = todoId;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES).putLong(todoId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static ManagedTodoCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+
+        return new ManagedTodoCursor(ByteBuffer.wrap(bytes).getLong());
+    }
+}
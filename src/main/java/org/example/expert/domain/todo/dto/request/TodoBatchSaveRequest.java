@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    // 항목별 오류는 todos[인덱스].필드 로 응답한다
+    @NotEmpty
+    @Size(max = MAX_SIZE)
+    private List<@NotNull @Valid TodoSaveRequest> todos;
+}
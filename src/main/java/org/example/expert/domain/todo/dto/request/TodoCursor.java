@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션에서 마지막으로 내려준 todo 의 (modifiedAt, id).
+ * 클라이언트에게는 내부 구조를 알 수 없는 Base64URL 문자열로만 전달한다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(modifiedAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(modifiedAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static TodoCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+        if (bytes.length != ENCODED_BYTES) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        long id = buffer.getLong();
+        if (nano < 0 || nano > 999_999_999) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+
+        try {
+            return new TodoCursor(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), id);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoQueryDto {
+    private Long id;
+    private String title;
+    private String contents;
+    private String weather;
+    private Long userId;
+    private String userEmail;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private int commentCount;
+    private int managerCount;
+
+    public TodoQueryDto(Long id, String title, String contents, String weather, Long userId, String userEmail,
+                        LocalDateTime createdAt, LocalDateTime modifiedAt, int commentCount, int managerCount) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+    }
+}
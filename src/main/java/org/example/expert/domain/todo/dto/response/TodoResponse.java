@@ -16,9 +16,12 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final int commentCount;
+    private final int managerCount;
 
     @Builder
-    private TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    private TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                         int commentCount, int managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -26,9 +29,12 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
     }
 
-    public static TodoResponse of(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public static TodoResponse of(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                                  int commentCount, int managerCount) {
         return TodoResponse.builder()
                 .id(id)
                 .title(title)
@@ -37,6 +43,8 @@ public class TodoResponse {
                 .user(user)
                 .createdAt(createdAt)
                 .modifiedAt(modifiedAt)
+                .commentCount(commentCount)
+                .managerCount(managerCount)
                 .build();
     }
 }
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.entity.IdSequences;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
@@ -16,20 +17,27 @@ import java.util.List;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "todos")
-@NamedEntityGraph(name = "Todo.withUser", attributeNodes = @NamedAttributeNode("user"))
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "todos", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // comments, managers 행 수의 비정규화 값. TodoRepository 의 UPDATE 로만 바꾸고 TodoCounterReconciler 가 보정한다
+    private int commentCount;
+    private int managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 TodoService 에서 bulk DELETE 로 처리하므로 cascade 하지 않는다
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -41,6 +49,7 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(Manager.create(user, this));
+        this.managerCount = 1;
     }
 
     public static Todo create(String title, String contents, String weather, User user) {
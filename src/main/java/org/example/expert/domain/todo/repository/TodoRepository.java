@@ -1,13 +1,20 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
@@ -15,14 +22,84 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
 //    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
 //    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
-    @EntityGraph("Todo.withUser")
-    @Query("SELECT t FROM Todo t ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 목록/단건 조회는 엔티티 대신 필요한 컬럼만 DTO 로 읽어 영속성 컨텍스트 스냅샷과 User 프록시를 만들지 않는다
+    // t 는 Todo, u 는 작성자 User 로 join 해서 사용한다
+    String TODO_QUERY_DTO_SELECT = "SELECT new org.example.expert.domain.todo.dto.response.TodoQueryDto(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.commentCount, t.managerCount) ";
+    String TODO_QUERY_DTO = TODO_QUERY_DTO_SELECT + "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    // Slice 로 반환해 count 쿼리 없이 size + 1 건만 읽는다
+    @Query(TODO_QUERY_DTO + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoQueryDto> findAllByOrderByModifiedAtDesc(Pageable pageable);
+
+    // 커서 페이지네이션: List 반환이므로 count 쿼리 없이 LIMIT 만 적용된다
+    @Query(TODO_QUERY_DTO + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoQueryDto> findLatest(Pageable pageable);
+
+    @Query(TODO_QUERY_DTO +
+            "WHERE t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoQueryDto> findLatestBefore(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    // 작성자별 커서 조회: idx_todos_user_id_modified_at 을 (user_id, modified_at, id) 순서로 읽는다
+    @Query(TODO_QUERY_DTO + "WHERE t.user.id = :userId ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoQueryDto> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(TODO_QUERY_DTO +
+            "WHERE t.user.id = :userId " +
+            "AND t.modifiedAt <= :modifiedAt " +
+            "AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoQueryDto> findLatestByUserIdBefore(@Param("userId") Long userId, @Param("modifiedAt") LocalDateTime modifiedAt,
+                                                @Param("id") Long id, Pageable pageable);
+
+    @Query(TODO_QUERY_DTO + "WHERE t.id = :todoId")
+    Optional<TodoQueryDto> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 작성자 확인용: user 를 join 하지 않고 todos.user_id 만 읽는다
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findUserIdById(@Param("todoId") Long todoId);
+
+    // comments, managers 를 먼저 지운 뒤 호출한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.id IN :todoIds")
+    int deleteAllByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 읽고 더해서 쓰지 않고 UPDATE 한 문장으로 더하므로 동시 요청에서도 유실되지 않는다.
+    // bulk UPDATE 라 @LastModifiedDate 가 바뀌지 않아 목록 정렬 순서도 그대로다
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :lastId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Todo t WHERE t.id BETWEEN :fromId AND :toId")
+    List<Long> lockIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Todo t
+        SET t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id),
+            t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id)
+        WHERE t.id BETWEEN :fromId AND :toId
+    """)
+    int updateCountsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // 구간 하나를 짧은 트랜잭션 하나로 실제 행 수에 맞춘다.
+    // 먼저 구간의 todo 행을 SELECT ... FOR UPDATE 로 잠가서, 진행 중인 댓글/담당자 증감 트랜잭션이 끝난 뒤에 세고
+    // 보정이 끝날 때까지 새 증감은 기다리게 한다. 그래서 동시에 더한 값을 덮어쓰지 않는다
+    @Transactional
+    default int reconcileCounts(Long fromId, Long toId) {
+        lockIdsBetween(fromId, toId);
+        return updateCountsBetween(fromId, toId);
+    }
 }
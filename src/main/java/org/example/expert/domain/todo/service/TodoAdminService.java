@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class TodoAdminService {
+
+    private final TodoService todoService;
+
+    /**
+     * 존재하지 않는 id 는 무시하고, 삭제된 todo 건수를 반환한다.
+     */
+    @Transactional
+    public int deleteTodos(TodoBulkDeleteRequest todoBulkDeleteRequest) {
+        return todoService.deleteAll(todoBulkDeleteRequest.getTodoIds().stream().distinct().toList());
+    }
+}
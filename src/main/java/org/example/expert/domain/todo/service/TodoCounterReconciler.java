@@ -0,0 +1,69 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * todos.comment_count, manager_count 를 comments, managers 의 실제 행 수로 다시 맞춘다.
+ * <p>
+ * 요청 경로의 증감은 같은 트랜잭션의 UPDATE 라 보통 어긋나지 않지만, 직접 수정한 데이터나 배포 중 실패 등으로 생긴 차이를 보정한다.
+ * id 순서로 chunk-size 건씩 구간을 나눠 구간마다 트랜잭션 하나로 처리해 잠금을 짧게 유지한다.
+ * 구간의 todo 행을 먼저 FOR UPDATE 로 잠그고 세므로 동시에 들어온 증감을 덮어쓰지 않는다.
+ * 요청 경로도 카운터 UPDATE 로 todo 행을 먼저 잠근 뒤 댓글/담당자를 저장, 삭제해서 잠금 순서가 같다.
+ * 한 번 실행할 때 max-chunks-per-run 구간까지만 처리하고, 다음 실행은 이어서 진행하다가 끝에 닿으면 처음부터 다시 돈다.
+ */
+@Slf4j
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final TodoResponseCache todoResponseCache;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    // 다음 실행이 이어서 시작할 id. fixedDelay 라 실행이 겹치지 않는다
+    private long lastId;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            TodoResponseCache todoResponseCache,
+            @Value("${todo.counter.reconcile-chunk-size:500}") int chunkSize,
+            @Value("${todo.counter.reconcile-max-chunks-per-run:10}") int maxChunksPerRun
+    ) {
+        this.todoRepository = todoRepository;
+        this.todoResponseCache = todoResponseCache;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+    }
+
+    @Scheduled(initialDelayString = "${todo.counter.reconcile-interval:PT5M}",
+            fixedDelayString = "${todo.counter.reconcile-interval:PT5M}")
+    public void reconcile() {
+        int chunks = 0;
+        try {
+            while (chunks < maxChunksPerRun) {
+                List<Long> ids = todoRepository.findIdsAfter(lastId, PageRequest.ofSize(chunkSize));
+                if (ids.isEmpty()) {
+                    lastId = 0;
+                    break;
+                }
+                long fromId = ids.get(0);
+                long toId = ids.get(ids.size() - 1);
+                todoRepository.reconcileCounts(fromId, toId);
+                ids.forEach(todoResponseCache::invalidate);
+
+                lastId = toId;
+                chunks++;
+            }
+            log.debug("todo 댓글/담당자 수 보정: chunks={}, lastId={}", chunks, lastId);
+        } catch (RuntimeException e) {
+            log.warn("todo 댓글/담당자 수 보정 실패, 다음 주기에 이어서 시도: lastId={}", lastId, e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongFunction;
+
+/**
+ * GET /todos/{todoId} 응답 캐시.
+ * <p>
+ * Caffeine 의 W-TinyLFU 로 자주 읽히는 todo 를 남기고, 문자열 길이로 추정한 바이트 수의 합을 max-weight 이하로 유지한다.
+ * 같은 키의 동시 miss 는 loader 를 한 번만 실행하고 나머지는 그 결과를 기다린다.
+ * todo 를 변경하는 쪽에서 invalidate 를 호출해야 한다.
+ */
+@Component
+public class TodoResponseCache {
+
+    // 객체 헤더, 필드, 날짜 두 개와 UserResponse 의 대략적인 고정 크기
+    private static final int BASE_WEIGHT = 200;
+
+    private final Cache<Long, TodoResponse> cache;
+
+    public TodoResponseCache(
+            MeterRegistry meterRegistry,
+            @Value("${todo.cache.max-weight:16777216}") long maxWeight,
+            @Value("${todo.cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Long todoId, TodoResponse response) -> weigh(response))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "todo.response");
+    }
+
+    public TodoResponse get(long todoId, LongFunction<TodoResponse> loader) {
+        return cache.get(todoId, loader::apply);
+    }
+
+    public void invalidate(long todoId) {
+        cache.invalidate(todoId);
+    }
+
+    private static int weigh(TodoResponse response) {
+        return BASE_WEIGHT
+                + 2 * (length(response.getTitle())
+                + length(response.getContents())
+                + length(response.getWeather())
+                + length(response.getUser().getEmail()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -2,33 +2,56 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.ManagedTodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ObjectUtils;
+
+import java.util.List;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
     private final WeatherClient weatherClient;
+    private final TodoResponseCache todoResponseCache;
 
-    @Transactional
+    /**
+     * 날씨를 먼저 구한 뒤 저장한다. HTTP 호출 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션은 save 안에서만 연다.
+     */
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        String weather = weatherClient.getTodayWeatherOrFallback();
 
         Todo newTodo = Todo.create(
                 todoSaveRequest.getTitle(),
@@ -47,43 +70,214 @@ public class TodoService {
         );
     }
 
+    /**
+     * 날씨는 한 번만 구하고, todo 와 작성자 manager 는 saveAll 의 트랜잭션 하나에서 저장한다.
+     * id 를 미리 할당하므로 Hibernate 가 flush 시점에 테이블별 JDBC batch insert 로 묶는다.
+     * 항목 검증은 컨트롤러에서 끝났으므로 전부 저장하거나 전부 실패한다.
+     */
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = weatherClient.getTodayWeatherOrFallback();
+
+        List<Todo> newTodos = todoBatchSaveRequest.getTodos().stream()
+                .map(request -> Todo.create(request.getTitle(), request.getContents(), weather, user))
+                .toList();
+        List<Todo> savedTodos = todoRepository.saveAll(newTodos);
+
+        UserResponse userResponse = UserResponse.of(user.getId(), user.getEmail());
+        return savedTodos.stream()
+                .map(todo -> TodoSaveResponse.of(todo.getId(), todo.getTitle(), todo.getContents(), weather, userResponse))
+                .toList();
+    }
+
+    /**
+     * 전체 건수는 정확한 값을 반환한다. 마지막 페이지이면 조회 결과로 건수를 알 수 있으므로 COUNT(*) 를 생략한다.
+     * 전체 건수가 필요 없으면 COUNT 를 실행하지 않는 getTodoSlice 를 사용한다.
+     */
     @Transactional(readOnly = true)
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        Slice<TodoQueryDto> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        List<TodoResponse> content = todos.map(this::toTodoResponse).getContent();
 
-        return todos.map(todo -> TodoResponse.of(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                UserResponse.of(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        // 범위를 넘은 페이지는 조회 결과만으로 건수를 알 수 없다
+        boolean countNeeded = todos.hasNext() || (content.isEmpty() && pageable.getOffset() > 0);
+        long total = countNeeded ? todoRepository.count() : pageable.getOffset() + content.size();
+        return new PageImpl<>(content, pageable, total);
     }
 
     @Transactional(readOnly = true)
+    public TodoSliceResponse getTodoSlice(int page, int size) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoQueryDto> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+
+        return new TodoSliceResponse(todos.map(this::toTodoResponse).getContent(), page, size, todos.hasNext());
+    }
+
+    /**
+     * OFFSET 과 COUNT 없이 마지막으로 받은 (modifiedAt, id) 다음부터 조회한다.
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        Pageable limit = cursorLimit(size);
+        List<TodoQueryDto> todos;
+        if (cursor == null || cursor.isEmpty()) {
+            todos = todoRepository.findLatest(limit);
+        } else {
+            TodoCursor after = TodoCursor.decode(cursor);
+            todos = todoRepository.findLatestBefore(after.getModifiedAt(), after.getId(), limit);
+        }
+
+        return toCursorResponse(todos, size);
+    }
+
+    /**
+     * 내가 작성한 todo 를 getTodosByCursor 와 같은 순서(modifiedAt, id 역순)로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public TodoCursorResponse getMyTodos(AuthUser authUser, String cursor, int size) {
+        Pageable limit = cursorLimit(size);
+        List<TodoQueryDto> todos;
+        if (cursor == null || cursor.isEmpty()) {
+            todos = todoRepository.findLatestByUserId(authUser.getId(), limit);
+        } else {
+            TodoCursor after = TodoCursor.decode(cursor);
+            todos = todoRepository.findLatestByUserIdBefore(authUser.getId(), after.getModifiedAt(), after.getId(), limit);
+        }
+
+        return toCursorResponse(todos, size);
+    }
+
+    /**
+     * 내가 담당자로 등록된 todo(직접 작성한 todo 포함)를 todo id 역순으로 조회한다.
+     * managers(user_id, todo_id) 인덱스 순서를 그대로 따르므로 todo id 만 담은 ManagedTodoCursor 를 쓴다.
+     * id 는 노드마다 미리 할당받은 구간에서 나오므로 id 역순이 생성 순서나 최신순과 일치하지는 않는다.
+     */
+    @Transactional(readOnly = true)
+    public TodoCursorResponse getManagedTodos(AuthUser authUser, String cursor, int size) {
+        Pageable limit = cursorLimit(size);
+        List<TodoQueryDto> todos;
+        if (cursor == null || cursor.isEmpty()) {
+            todos = managerRepository.findManagedTodos(authUser.getId(), limit);
+        } else {
+            ManagedTodoCursor after = ManagedTodoCursor.decode(cursor);
+            todos = managerRepository.findManagedTodosBefore(authUser.getId(), after.getTodoId(), limit);
+        }
+
+        return toCursorResponse(todos, size, last -> new ManagedTodoCursor(last.getId()).encode());
+    }
+
+    /**
+     * TodoResponseCache 를 거쳐 조회한다. 캐시 hit 에서는 트랜잭션을 열지 않는다.
+     */
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
+        return todoResponseCache.get(todoId, this::loadTodo);
+    }
+
+    private TodoResponse loadTodo(long todoId) {
+        TodoQueryDto todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        return toTodoResponse(todo);
+    }
 
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findUserIdById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            throw new InvalidRequestException("일정을 생성한 유저만 일정을 삭제할 수 있습니다.");
+        }
+
+        deleteAll(List.of(todoId));
+    }
+
+    /**
+     * 댓글, 담당자, todo 순서로 테이블마다 DELETE 한 문장씩 실행한다.
+     * 자식 엔티티를 영속성 컨텍스트에 올리지 않으므로 댓글 수와 관계없이 쿼리 수가 일정하다.
+     * 캐시는 커밋 이후에 비워 커밋 전 읽기가 지워질 todo 를 다시 캐시하지 않게 한다.
+     */
+    int deleteAll(List<Long> todoIds) {
+        commentRepository.deleteAllByTodoIdIn(todoIds);
+        managerRepository.deleteAllByTodoIdIn(todoIds);
+        int deleted = todoRepository.deleteAllByIdIn(todoIds);
+
+        afterCommit(() -> todoIds.forEach(todoResponseCache::invalidate));
+        return deleted;
+    }
+
+    /**
+     * 댓글 저장/삭제와 같은 트랜잭션에서 호출한다. 롤백되면 건수도 함께 되돌아간다.
+     */
+    @Transactional
+    public void addCommentCount(long todoId, int delta) {
+        todoRepository.addCommentCount(todoId, delta);
+        afterCommit(() -> todoResponseCache.invalidate(todoId));
+    }
+
+    @Transactional
+    public void addManagerCount(long todoId, int delta) {
+        todoRepository.addManagerCount(todoId, delta);
+        afterCommit(() -> todoResponseCache.invalidate(todoId));
+    }
+
+    public Todo getTodoById(Long todoId) {
+        return todoRepository.findById(todoId).orElseThrow(() ->
+                new InvalidRequestException("Todo not found"));
+    }
+
+    private static Pageable cursorLimit(int size) {
+        if (size < 1 || size > MAX_CURSOR_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_SIZE + " 이하여야 합니다.");
+        }
+        return PageRequest.ofSize(size + 1);
+    }
+
+    private TodoCursorResponse toCursorResponse(List<TodoQueryDto> todos, int size) {
+        return toCursorResponse(todos, size, last -> new TodoCursor(last.getModifiedAt(), last.getId()).encode());
+    }
+
+    private TodoCursorResponse toCursorResponse(List<TodoQueryDto> todos, int size, Function<TodoQueryDto, String> cursorOf) {
+        boolean hasNext = todos.size() > size;
+        List<TodoQueryDto> content = hasNext ? todos.subList(0, size) : todos;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = cursorOf.apply(content.get(content.size() - 1));
+        }
+
+        return new TodoCursorResponse(content.stream().map(this::toTodoResponse).toList(), nextCursor, hasNext);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private TodoResponse toTodoResponse(TodoQueryDto todo) {
         return TodoResponse.of(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                UserResponse.of(user.getId(), user.getEmail()),
+                UserResponse.of(todo.getUserId(), todo.getUserEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount()
         );
     }
-
-    public Todo getTodoById(Long todoId) {
-        return todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
-    }
 }
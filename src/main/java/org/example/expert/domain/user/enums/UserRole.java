@@ -2,15 +2,37 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    // 매 요청마다 values() 를 순회하지 않도록 미리 만들어둔 조회 테이블
+    private static final Map<String, UserRole> LOOKUP;
+
+    static {
+        Map<String, UserRole> lookup = new HashMap<>();
+        for (UserRole userRole : values()) {
+            lookup.put(userRole.name(), userRole);
+            lookup.put(userRole.name().toLowerCase(Locale.ROOT), userRole);
+        }
+        LOOKUP = Map.copyOf(lookup);
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        if (role == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+
+        UserRole userRole = LOOKUP.get(role);
+        if (userRole == null) {
+            userRole = LOOKUP.get(role.toUpperCase(Locale.ROOT));
+        }
+        if (userRole == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return userRole;
     }
 }
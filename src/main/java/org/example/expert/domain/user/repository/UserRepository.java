@@ -1,11 +1,32 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // MySQL 에서 결과를 한 번에 메모리에 올리지 않고 행 단위로 읽도록 fetch size 를 MIN_VALUE 로 지정
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    // 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않도록 기존 해시가 같을 때만 갱신
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePassword(@Param("userId") Long userId,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,48 @@
+-- ddl-auto: update 로 만들어지던 스키마. 기존 DB 는 baseline-on-migrate 로 이 버전을 건너뛴다.
+CREATE TABLE users
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   ENUM ('ADMIN','USER'),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    title       VARCHAR(255),
+    contents    VARCHAR(255),
+    weather     VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    contents    VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    todo_id     BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
@@ -0,0 +1,10 @@
+-- GET /todos 정렬과 커서 조회: ORDER BY modified_at DESC, id DESC 를 filesort 없이 읽는다
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC);
+
+-- 사용자별 todo 를 최신순으로 조회
+CREATE INDEX idx_todos_user_id_modified_at ON todos (user_id, modified_at);
+
+-- CommentRepository.findByTodoIdWithUser 는 fk_comments_todo 인덱스(todo_id, 뒤에 PK id 가 붙는다)를 그대로 사용한다
+
+-- ManagerRepository.findByTodoIdWithUser
+CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id);
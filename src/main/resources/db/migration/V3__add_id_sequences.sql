@@ -0,0 +1,14 @@
+-- @TableGenerator(pooled) 용 id 블록 테이블. next_val 은 다음에 예약할 블록의 마지막 id 다.
+-- 기존 id 와 겹치지 않도록 MAX(id) + allocationSize(50) 로 시작한다.
+-- AUTO_INCREMENT 는 남겨 두지만 애플리케이션은 더 이상 사용하지 않는다.
+CREATE TABLE id_sequences
+(
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 50 FROM users;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'todos', COALESCE(MAX(id), 0) + 50 FROM todos;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 50 FROM comments;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'managers', COALESCE(MAX(id), 0) + 50 FROM managers;
@@ -0,0 +1,8 @@
+-- 목록 응답에 댓글/담당자 수를 함께 내려주기 위한 비정규화 컬럼. 작성자 manager 도 manager_count 에 포함된다.
+-- 이후에는 애플리케이션이 UPDATE ... SET count = count + ? 로 유지하고 TodoCounterReconciler 가 주기적으로 다시 맞춘다.
+ALTER TABLE todos ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+ALTER TABLE todos ADD COLUMN manager_count INT NOT NULL DEFAULT 0;
+
+UPDATE todos
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id),
+    manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = todos.id);
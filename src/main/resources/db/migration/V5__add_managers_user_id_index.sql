@@ -0,0 +1,2 @@
+-- GET /users/me/managed-todos: user_id 로 찾고 todo_id 역순으로 커서 페이지네이션한다
+CREATE INDEX idx_managers_user_id_todo_id ON managers (user_id, todo_id);
@@ -0,0 +1,46 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyWindowTest {
+
+    @Test
+    void 표본이_없으면_음수를_반환한다() {
+        // given
+        LatencyWindow window = new LatencyWindow(4);
+
+        // when & then
+        assertEquals(-1, window.percentile(0.9));
+    }
+
+    @Test
+    void nearest_rank_백분위수를_계산한다() {
+        // given
+        LatencyWindow window = new LatencyWindow(10);
+        for (long latency = 10; latency >= 1; latency--) {
+            window.record(latency);
+        }
+
+        // when & then
+        assertEquals(9, window.percentile(0.9));
+        assertEquals(5, window.percentile(0.5));
+        assertEquals(10, window.percentile(1.0));
+    }
+
+    @Test
+    void 용량을_넘으면_오래된_표본부터_버린다() {
+        // given
+        LatencyWindow window = new LatencyWindow(2);
+
+        // when
+        window.record(100);
+        window.record(1);
+        window.record(2);
+
+        // then
+        assertEquals(2, window.size());
+        assertEquals(2, window.percentile(1.0));
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientHedgeTest {
+
+    private static final Clock SEPTEMBER_FIRST = Clock.fixed(Instant.parse("2024-09-01T03:00:00Z"), ZoneOffset.UTC);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StubProvider primary;
+    private StubProvider secondary;
+    private WeatherProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        primary = new StubProvider("Sunny");
+        secondary = new StubProvider("Rainy");
+
+        properties = new WeatherProperties();
+        properties.getApi().setUrls(List.of(primary.url(), secondary.url()));
+        properties.getApi().setReadTimeout(Duration.ofSeconds(5));
+        properties.getHedge().setInitialDelay(Duration.ofMillis(50));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.stop();
+        secondary.stop();
+    }
+
+    @Test
+    void 첫_provider가_hedge_지연_안에_답하지_않으면_먼저_온_다음_provider_응답을_사용한다() {
+        // given
+        primary.latencyMillis.set(1500);
+        WeatherClient weatherClient = newWeatherClient();
+
+        // when
+        long start = System.nanoTime();
+        String weather = weatherClient.getTodayWeather();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertEquals("Rainy", weather);
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis);
+        assertEquals(1, primary.requestCount.get());
+        assertEquals(1, secondary.requestCount.get());
+        assertEquals(1.0, meterRegistry.get("weather.hedge.sent").counter().count());
+        assertEquals(1.0, meterRegistry.get("weather.hedge.won").counter().count());
+    }
+
+    @Test
+    void 첫_provider가_빠르면_hedge_요청을_보내지_않는다() throws InterruptedException {
+        // given
+        // 첫 요청은 연결 수립과 JIT 때문에 50ms 를 넘길 수 있으므로 hedge 지연을 넉넉히 준다
+        properties.getHedge().setInitialDelay(Duration.ofSeconds(2));
+        WeatherClient weatherClient = newWeatherClient();
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+        Thread.sleep(200);
+
+        // then
+        assertEquals("Sunny", weather);
+        assertEquals(0, secondary.requestCount.get());
+        assertEquals(0.0, meterRegistry.get("weather.hedge.sent").counter().count());
+    }
+
+    @Test
+    void 첫_provider가_실패하면_hedge_지연을_기다리지_않고_다음_provider에_요청한다() {
+        // given
+        primary.status.set(500);
+        properties.getHedge().setInitialDelay(Duration.ofSeconds(10));
+        WeatherClient weatherClient = newWeatherClient();
+
+        // when
+        long start = System.nanoTime();
+        String weather = weatherClient.getTodayWeather();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // then
+        assertEquals("Rainy", weather);
+        assertTrue(elapsedMillis < 5000, "elapsed=" + elapsedMillis);
+        assertEquals(0.0, meterRegistry.get("weather.hedge.sent").counter().count());
+        assertEquals(1, meterRegistry.get("weather.fetch").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void 모든_provider가_실패해야_한_번의_실패로_센다() {
+        // given
+        primary.status.set(500);
+        secondary.status.set(503);
+        WeatherClient weatherClient = newWeatherClient();
+
+        // when
+        String weather = weatherClient.getTodayWeatherOrFallback();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertEquals(1, primary.requestCount.get());
+        assertEquals(1, secondary.requestCount.get());
+        assertEquals(1, meterRegistry.get("weather.fetch").tag("outcome", "failure").timer().count());
+        assertEquals(CircuitBreaker.State.CLOSED, weatherClient.circuitState());
+    }
+
+    private WeatherClient newWeatherClient() {
+        return new WeatherClient(properties, new ObjectMapper(), meterRegistry, SEPTEMBER_FIRST);
+    }
+
+    private static class StubProvider {
+
+        private final HttpServer server;
+        private final AtomicInteger requestCount = new AtomicInteger();
+        private final AtomicInteger status = new AtomicInteger(200);
+        private final AtomicLong latencyMillis = new AtomicLong();
+
+        private StubProvider(String weather) throws IOException {
+            byte[] body = ("[{\"date\":\"09-01\",\"weather\":\"" + weather + "\"}]").getBytes(StandardCharsets.UTF_8);
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/f-api/weather.json", exchange -> {
+                requestCount.incrementAndGet();
+                try {
+                    Thread.sleep(latencyMillis.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status.get(), body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json";
+        }
+
+        private void stop() {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherClientTest {
+
+    private static final Instant SEPTEMBER_FIRST = Instant.parse("2024-09-01T03:00:00Z");
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> body = new AtomicReference<>("[{\"date\":\"09-01\",\"weather\":\"Sunny\"}]");
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final MutableClock clock = new MutableClock(SEPTEMBER_FIRST);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    private Path tempDir;
+
+    private HttpServer server;
+    private WeatherProperties properties;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] response = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status.get(), response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        properties = new WeatherProperties();
+        properties.getApi().setUrls(List.of("http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json"));
+        properties.getCache().setTtl(Duration.ofHours(6));
+        properties.setTimeout(Duration.ofMillis(500));
+        properties.getCircuitBreaker().setFailureThreshold(2);
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(1));
+        weatherClient = new WeatherClient(properties, new ObjectMapper(), meterRegistry, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 한번_받은_날씨는_ttl_동안_다시_요청하지_않는다() {
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void ttl이_지나면_기존_값을_반환하고_백그라운드에서_갱신한다() throws InterruptedException {
+        // given
+        weatherClient.getTodayWeather();
+        body.set("[{\"date\":\"09-01\",\"weather\":\"Rainy\"}]");
+        clock.advance(Duration.ofHours(7));
+
+        // when
+        String stale = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", stale);
+        awaitRequests(2);
+        awaitWeather("Rainy");
+    }
+
+    @Test
+    void 날짜가_바뀌면_upstream_호출없이_받아둔_맵에서_찾는다() {
+        // given
+        body.set("[{\"date\":\"09-01\",\"weather\":\"Sunny\"},{\"date\":\"09-02\",\"weather\":\"Snowy\"}]");
+        clock.advance(Duration.ofHours(20));
+        weatherClient.getTodayWeather();
+        clock.advance(Duration.ofHours(2));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Snowy", weather);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 갱신에_실패하면_기존_값을_유지한다() {
+        // given
+        weatherClient.getTodayWeather();
+        status.set(500);
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals(2, requestCount.get());
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+
+    @Test
+    void 오늘_날씨가_없으면_ServerException을_던진다() {
+        // given
+        body.set("[{\"date\":\"12-25\",\"weather\":\"Snowy\"}]");
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, () -> weatherClient.getTodayWeather());
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 첫_조회가_실패하면_fallback을_반환하고_다음_호출에서_다시_시도한다() {
+        // given
+        status.set(500);
+
+        // when
+        String weather = weatherClient.getTodayWeatherOrFallback();
+        status.set(200);
+        String retried = weatherClient.getTodayWeatherOrFallback();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertEquals("Sunny", retried);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 오늘_날씨가_없으면_fallback을_반환한다() {
+        // given
+        body.set("[{\"date\":\"12-25\",\"weather\":\"Snowy\"}]");
+
+        // when & then
+        assertEquals("Unknown", weatherClient.getTodayWeatherOrFallback());
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_upstream을_호출하지_않고_마지막_값을_사용한다() {
+        // given
+        weatherClient.getTodayWeather();
+        status.set(500);
+        weatherClient.refresh();
+        weatherClient.refresh();
+
+        // when
+        weatherClient.refresh();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, weatherClient.circuitState());
+        assertEquals(3, requestCount.get());
+        assertEquals("Sunny", weatherClient.getTodayWeatherOrFallback());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.state").gauge().value());
+        assertEquals(1.0, meterRegistry.get("weather.circuit.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("weather.fetch").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    void 서킷이_열려_있으면_첫_조회도_바로_fallback을_반환한다() {
+        // given
+        status.set(500);
+        weatherClient.getTodayWeatherOrFallback();
+        weatherClient.getTodayWeatherOrFallback();
+
+        // when
+        String weather = weatherClient.getTodayWeatherOrFallback();
+
+        // then
+        assertEquals("Unknown", weather);
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 저장된_스냅샷이_있으면_upstream_없이_시작한다() {
+        // given
+        Path snapshotPath = tempDir.resolve("weather-snapshot.tsv");
+        new WeatherSnapshotStore(snapshotPath).save(new WeatherSnapshot(Map.of("09-01", "Cloudy"), SEPTEMBER_FIRST));
+        properties.getSnapshot().setPath(snapshotPath.toString());
+        status.set(500);
+        WeatherClient restarted = new WeatherClient(properties, new ObjectMapper(), new SimpleMeterRegistry(), clock);
+
+        // when
+        restarted.loadSnapshot();
+
+        // then
+        assertEquals("Cloudy", restarted.getTodayWeather());
+        assertEquals(0, requestCount.get());
+    }
+
+    @Test
+    void 받은_날씨를_스냅샷_파일에_저장한다() {
+        // given
+        Path snapshotPath = tempDir.resolve("weather-snapshot.tsv");
+        properties.getSnapshot().setPath(snapshotPath.toString());
+        WeatherClient client = new WeatherClient(properties, new ObjectMapper(), new SimpleMeterRegistry(), clock);
+
+        // when
+        client.getTodayWeather();
+
+        // then
+        WeatherSnapshot stored = new WeatherSnapshotStore(snapshotPath).load().orElseThrow();
+        assertEquals("Sunny", stored.weatherOn("09-01"));
+        assertEquals(SEPTEMBER_FIRST, stored.getFetchedAt());
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (requestCount.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, requestCount.get());
+    }
+
+    private void awaitWeather(String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!expected.equals(weatherClient.currentSnapshot().weatherOn("09-01")) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, weatherClient.getTodayWeather());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeatherSnapshotStoreTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void 저장한_스냅샷을_그대로_읽는다() {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.tsv"));
+        Instant fetchedAt = Instant.parse("2024-09-01T03:00:00Z");
+
+        // when
+        store.save(new WeatherSnapshot(Map.of("09-01", "Sunny", "09-02", "Light Rain"), fetchedAt));
+        Optional<WeatherSnapshot> loaded = store.load();
+
+        // then
+        assertTrue(loaded.isPresent());
+        assertEquals(fetchedAt, loaded.get().getFetchedAt());
+        assertEquals("Sunny", loaded.get().weatherOn("09-01"));
+        assertEquals("Light Rain", loaded.get().weatherOn("09-02"));
+    }
+
+    @Test
+    void 다시_저장하면_파일을_교체하고_임시파일을_남기지_않는다() throws IOException {
+        // given
+        WeatherSnapshotStore store = new WeatherSnapshotStore(tempDir.resolve("weather-snapshot.tsv"));
+        store.save(new WeatherSnapshot(Map.of("09-01", "Sunny"), Instant.ofEpochMilli(1)));
+
+        // when
+        store.save(new WeatherSnapshot(Map.of("09-01", "Rainy"), Instant.ofEpochMilli(2)));
+
+        // then
+        assertEquals("Rainy", store.load().orElseThrow().weatherOn("09-01"));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void 파일이_없거나_깨져_있으면_빈_값을_반환한다() throws IOException {
+        // given
+        Path path = tempDir.resolve("weather-snapshot.tsv");
+        WeatherSnapshotStore store = new WeatherSnapshotStore(path);
+
+        // when & then
+        assertTrue(store.load().isEmpty());
+
+        Files.writeString(path, "not-a-timestamp\n09-01\tSunny\n");
+        assertTrue(store.load().isEmpty());
+    }
+
+    @Test
+    void 디렉터리를_만들_수_없으면_저장하지_않고_예외도_던지지_않는다() throws IOException {
+        // given
+        Path notDirectory = Files.createFile(tempDir.resolve("not-a-directory"));
+        WeatherSnapshotStore store = new WeatherSnapshotStore(notDirectory.resolve("weather-snapshot.tsv"));
+
+        // when
+        store.save(new WeatherSnapshot(Map.of("09-01", "Sunny"), Instant.ofEpochMilli(1)));
+
+        // then
+        assertFalse(store.isWritable());
+        assertTrue(store.load().isEmpty());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void 넣은_값은_항상_있다고_판단한다() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@asd.com");
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloomFilter.mightContain("user" + i + "@asd.com"));
+        }
+    }
+
+    @Test
+    void false_positive_비율이_설정값_근처로_유지된다() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("user" + i + "@asd.com");
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("new" + i + "@asd.com")) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(bloomFilter.expectedFalsePositiveRate()).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.common.logging;
+
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SecurityEventLoggerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 구간당_상세로그_수를_넘으면_생략하고_모두_집계한다() {
+        // given
+        SecurityEventLogger logger = new SecurityEventLogger(properties(2, Map.of()), meterRegistry, clock::get);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            logger.error(new MalformedJwtException("bad"), "JWT 검증 실패: URI={}", "/todos");
+        }
+
+        // then
+        assertEquals(10, logger.totalCount("MalformedJwtException"));
+        assertEquals(8, logger.suppressedCount("MalformedJwtException"));
+        assertEquals(10, meterRegistry.get("security.events").tag("cause", "MalformedJwtException").counter().count());
+    }
+
+    @Test
+    void 구간이_지나면_다시_상세로그를_남긴다() {
+        // given
+        SecurityEventLogger logger = new SecurityEventLogger(properties(1, Map.of()), meterRegistry, clock::get);
+        logger.warn("missing-header", "인증 헤더 누락: URI={}", "/todos");
+        logger.warn("missing-header", "인증 헤더 누락: URI={}", "/todos");
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        logger.warn("missing-header", "인증 헤더 누락: URI={}", "/todos");
+
+        // then
+        assertEquals(3, logger.totalCount("missing-header"));
+        assertEquals(1, logger.suppressedCount("missing-header"));
+    }
+
+    @Test
+    void 원인별_설정이_기본값보다_우선한다() {
+        // given
+        SecurityEventLogger logger = new SecurityEventLogger(
+                properties(5, Map.of("MalformedJwtException", 0)), meterRegistry, clock::get);
+
+        // when
+        logger.error(new MalformedJwtException("bad"), "JWT 검증 실패: URI={}", "/todos");
+        logger.error(new IllegalStateException("boom"), "예상치 못한 오류: URI={}", "/todos");
+
+        // then
+        assertEquals(1, logger.suppressedCount("MalformedJwtException"));
+        assertEquals(0, logger.suppressedCount("IllegalStateException"));
+    }
+
+    @Test
+    void 요약을_출력하면_생략_건수가_초기화된다() {
+        // given
+        SecurityEventLogger logger = new SecurityEventLogger(properties(0, Map.of()), meterRegistry, clock::get);
+        logger.warn("forbidden", "권한 부족: URI={}", "/admin");
+        logger.warn("forbidden", "권한 부족: URI={}", "/admin");
+
+        // when
+        logger.logSummary();
+
+        // then
+        assertEquals(0, logger.suppressedCount("forbidden"));
+        assertEquals(2, logger.totalCount("forbidden"));
+    }
+
+    private SecurityLogProperties properties(int detailsPerWindow, Map<String, Integer> causes) {
+        SecurityLogProperties properties = new SecurityLogProperties();
+        properties.setWindow(Duration.ofSeconds(60));
+        properties.setDetailsPerWindow(detailsPerWindow);
+        properties.setCauses(causes);
+        return properties;
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedTokenBucketLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void 용량만큼_허용하고_초과하면_거절한다() {
+        // given
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(4, 3, Duration.ofSeconds(10), 100, clock::get);
+
+        // when & then
+        assertTrue(limiter.tryAcquire("asd@asd.com"));
+        assertTrue(limiter.tryAcquire("asd@asd.com"));
+        assertTrue(limiter.tryAcquire("asd@asd.com"));
+        assertFalse(limiter.tryAcquire("asd@asd.com"));
+        assertTrue(limiter.tryAcquire("other@asd.com"));
+    }
+
+    @Test
+    void 시간이_지나면_토큰이_다시_채워진다() {
+        // given
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(4, 1, Duration.ofSeconds(10), 100, clock::get);
+        assertTrue(limiter.tryAcquire("asd@asd.com"));
+        assertFalse(limiter.tryAcquire("asd@asd.com"));
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertTrue(limiter.tryAcquire("asd@asd.com"));
+    }
+
+    @Test
+    void 돌려준_토큰은_다시_쓸_수_있고_용량을_넘지_않는다() {
+        // given
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(4, 1, Duration.ofSeconds(10), 100, clock::get);
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+
+        // when
+        limiter.refund("127.0.0.1");
+        limiter.refund("127.0.0.1");
+
+        // then
+        assertTrue(limiter.tryAcquire("127.0.0.1"));
+        assertFalse(limiter.tryAcquire("127.0.0.1"));
+    }
+
+    @Test
+    void 다시_가득_찰_만큼_쓰이지_않은_버킷은_정리된다() {
+        // given
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(1, 2, Duration.ofSeconds(1), 100, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        limiter.tryAcquire("c");
+
+        // then
+        assertEquals(1, limiter.size());
+        assertEquals(2, limiter.evictionCount());
+    }
+
+    @Test
+    void 서로_다른_키가_아무리_많아도_최대_키_수를_넘지_않는다() {
+        // given
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(16, 5, Duration.ofMinutes(1), 1024, clock::get);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            limiter.tryAcquire("user" + i + "@asd.com");
+        }
+
+        // then
+        assertThat(limiter.size()).isLessThanOrEqualTo(1024);
+        assertThat(limiter.evictionCount()).isGreaterThan(0);
+    }
+
+    @Test
+    void 동시에_요청해도_용량보다_많이_허용하지_않는다() throws Exception {
+        // given
+        int threads = 16;
+        int attemptsPerThread = 2_000;
+        long capacity = 100;
+        StripedTokenBucketLimiter limiter = new StripedTokenBucketLimiter(capacity, Duration.ofHours(1), 10_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        AtomicInteger otherKeysAllowed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int threadNo = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (limiter.tryAcquire("hot@asd.com")) {
+                        allowed.incrementAndGet();
+                    }
+                    // 다른 키들과 stripe 를 공유해도 서로 영향을 주지 않아야 한다
+                    if (limiter.tryAcquire("cold" + threadNo + "-" + i + "@asd.com")) {
+                        otherKeysAllowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(capacity, allowed.get());
+        assertEquals(threads * attemptsPerThread, otherKeysAllowed.get());
+    }
+}
@@ -1,9 +1,9 @@
 package org.example.expert.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +11,7 @@ import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
@@ -68,13 +69,9 @@ public class AuthUserArgumentResolverTest {
     void resolveArgument가_Request에서_AuthUser를_꺼낸다(){
         // given
         NativeWebRequest webRequest = mock(NativeWebRequest.class);
-        HttpServletRequest servletRequest = mock(HttpServletRequest.class);
         AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
 
-        given(webRequest.getNativeRequest()).willReturn(servletRequest);
-        given(servletRequest.getAttribute("userId")).willReturn(authUser.getId());
-        given(servletRequest.getAttribute("email")).willReturn(authUser.getEmail());
-        given(servletRequest.getAttribute("userRole")).willReturn(authUser.getUserRole().name());
+        given(webRequest.getAttribute(AuthUser.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)).willReturn(authUser);
 
         // when
         Object result = authUserArgumentResolver.resolveArgument(null, null, webRequest, null);
@@ -84,4 +81,14 @@ public class AuthUserArgumentResolverTest {
         assertEquals(authUser.getEmail(), ((AuthUser) result).getEmail());
         assertEquals(authUser.getUserRole(), ((AuthUser) result).getUserRole());
     }
+
+    @Test
+    void resolveArgument_Request에_AuthUser가_없으면_InvalidRequestException을_던진다() {
+        // given
+        NativeWebRequest webRequest = mock(NativeWebRequest.class);
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> authUserArgumentResolver.resolveArgument(null, null, webRequest, null));
+    }
 }
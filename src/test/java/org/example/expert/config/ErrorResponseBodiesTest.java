@@ -0,0 +1,71 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseBodiesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void 기존_Map_직렬화와_같은_필드를_가진다() throws Exception {
+        // when
+        byte[] body = ErrorResponseBodies.of(HttpStatus.UNAUTHORIZED, ErrorResponseBodies.UNAUTHORIZED_MESSAGE);
+
+        // then
+        JsonNode json = objectMapper.readTree(body);
+        assertEquals("UNAUTHORIZED", json.get("status").asText());
+        assertEquals(401, json.get("code").asInt());
+        assertEquals("인증이 필요합니다.", json.get("message").asText());
+    }
+
+    @Test
+    void 고정_메시지는_미리_만든_본문을_재사용한다() {
+        // when
+        byte[] first = ErrorResponseBodies.of(HttpStatus.BAD_REQUEST, "Todo not found");
+        byte[] second = ErrorResponseBodies.of(HttpStatus.BAD_REQUEST, "Todo not found");
+
+        // then
+        assertSame(first, second);
+    }
+
+    @Test
+    void 고정되지_않은_메시지는_캐시하지_않고_매번_직렬화한다() throws Exception {
+        // given
+        String message = "userId=42 not found";
+
+        // when
+        byte[] first = ErrorResponseBodies.of(HttpStatus.BAD_REQUEST, message);
+        byte[] second = ErrorResponseBodies.of(HttpStatus.BAD_REQUEST, message);
+
+        // then
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+        assertEquals(message, objectMapper.readTree(first).get("message").asText());
+    }
+
+    @Test
+    void 메시지의_특수문자를_이스케이프한다() throws Exception {
+        // given
+        String message = "\"따옴표\" \\ 줄바꿈\n";
+
+        // when
+        byte[] body = ErrorResponseBodies.of(HttpStatus.BAD_REQUEST, message);
+
+        // then
+        assertEquals(message, objectMapper.readTree(body).get("message").asText());
+    }
+
+    @Test
+    void 메시지가_null이면_null로_직렬화한다() throws Exception {
+        // when
+        byte[] body = ErrorResponseBodies.of(HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+        // then
+        assertTrue(objectMapper.readTree(body).get("message").isNull());
+    }
+}
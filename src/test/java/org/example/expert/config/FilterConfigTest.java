@@ -1,6 +1,6 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.common.logging.SecurityEventLogger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -20,12 +20,12 @@ public class FilterConfigTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private SecurityEventLogger securityEventLogger;
 
     @Test
     void jwtFilterBean이_등록되고_url패턴이_설정된다() {
         // given
-        FilterConfig filterConfig = new FilterConfig(jwtUtil, objectMapper);
+        FilterConfig filterConfig = new FilterConfig(jwtUtil, securityEventLogger);
 
         // when
         FilterRegistrationBean<JwtFilter> registrationBean = filterConfig.jwtFilter();
@@ -0,0 +1,153 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Hs256TokenVerifierTest {
+
+    private static final byte[] KEY_BYTES = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_KEY_BYTES = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8);
+
+    private final Key key = Keys.hmacShaKeyFor(KEY_BYTES);
+    private final JwtParser jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final Hs256TokenVerifier verifier = new Hs256TokenVerifier(KEY_BYTES);
+
+    @Test
+    void jjwt와_같은_토큰을_허용하고_거부한다() {
+        // given
+        Map<String, String> corpus = corpus();
+
+        for (Map.Entry<String, String> entry : corpus.entrySet()) {
+            String token = entry.getValue();
+
+            // when
+            Claims claims = parseWithJjwt(token);
+            VerifiedToken verified = verifier.verify(token);
+
+            // then
+            assertEquals(claims != null, verified != null, entry.getKey());
+            if (claims != null) {
+                assertEquals(Long.parseLong(claims.getSubject()), verified.getUserId(), entry.getKey());
+                assertEquals(claims.get("email", String.class), verified.getEmail(), entry.getKey());
+                assertEquals(claims.get("userRole", String.class), verified.getUserRole(), entry.getKey());
+                assertEquals(claims.getExpiration().getTime() / 1000, verified.getExpiration(), entry.getKey());
+            }
+        }
+    }
+
+    @Test
+    void kid에_해당하는_키_하나로만_검증한다() {
+        // given
+        Hs256TokenVerifier keyRingVerifier = new Hs256TokenVerifier(KEY_BYTES, Map.of("k1", OTHER_KEY_BYTES));
+        Date now = new Date();
+        Date future = new Date(now.getTime() + 60 * 60 * 1000L);
+        Key otherKey = Keys.hmacShaKeyFor(OTHER_KEY_BYTES);
+
+        String withKid = kidToken("k1", otherKey, now, future);
+        String wrongKid = kidToken("k1", key, now, future);
+        String unknownKid = kidToken("k2", otherKey, now, future);
+        String withoutKid = token(1L, "asd@asd.com", UserRole.USER, now, future, key);
+
+        // when & then
+        assertEquals(1L, keyRingVerifier.verify(withKid).getUserId());
+        assertNull(keyRingVerifier.verify(wrongKid));
+        assertNull(keyRingVerifier.verify(unknownKid));
+        assertEquals(1L, keyRingVerifier.verify(withoutKid).getUserId());
+    }
+
+    @Test
+    void Base64URL_디코딩이_JDK_결과와_같다() {
+        // given
+        byte[] source = "{\"sub\":\"1\",\"email\":\"asd@asd.com\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = Base64.getUrlEncoder().withoutPadding().encode(source);
+        byte[] decoded = new byte[encoded.length];
+
+        // when
+        int length = Hs256TokenVerifier.decode(encoded, 0, encoded.length, decoded);
+
+        // then
+        assertArrayEquals(source, Arrays.copyOf(decoded, length));
+    }
+
+    private Map<String, String> corpus() {
+        Date now = new Date();
+        Date future = new Date(now.getTime() + 60 * 60 * 1000L);
+        Date past = new Date(now.getTime() - 60 * 1000L);
+
+        String valid = token(1L, "asd@asd.com", UserRole.USER, now, future, key);
+        String admin = token(2L, "admin@asd.com", UserRole.ADMIN, now, future, key);
+        String expired = token(1L, "asd@asd.com", UserRole.USER, past, past, key);
+        String otherKey = token(1L, "asd@asd.com", UserRole.USER, now, future, Keys.hmacShaKeyFor(OTHER_KEY_BYTES));
+        String unsigned = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "asd@asd.com")
+                .setExpiration(future)
+                .compact();
+
+        String[] validParts = valid.split("\\.");
+        String[] adminParts = admin.split("\\.");
+        char[] signature = validParts[2].toCharArray();
+        signature[5] = signature[5] == 'A' ? 'B' : 'A';
+
+        Map<String, String> corpus = new LinkedHashMap<>();
+        corpus.put("valid", valid);
+        corpus.put("admin", admin);
+        corpus.put("expired", expired);
+        corpus.put("otherKey", otherKey);
+        corpus.put("unsigned", unsigned);
+        corpus.put("tamperedPayload", validParts[0] + "." + adminParts[1] + "." + validParts[2]);
+        corpus.put("tamperedSignature", validParts[0] + "." + validParts[1] + "." + new String(signature));
+        corpus.put("missingSignature", validParts[0] + "." + validParts[1] + ".");
+        corpus.put("trailingGarbage", valid + "x");
+        corpus.put("twoSegments", validParts[0] + "." + validParts[1]);
+        corpus.put("notJwt", "abc");
+        corpus.put("emptySegments", "a.b.c");
+        return corpus;
+    }
+
+    private String token(Long userId, String email, UserRole userRole, Date issuedAt, Date expiration, Key signingKey) {
+        return Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .claim("email", email)
+                .claim("userRole", userRole)
+                .setExpiration(expiration)
+                .setIssuedAt(issuedAt)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private String kidToken(String kid, Key signingKey, Date issuedAt, Date expiration) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("1")
+                .claim("email", "asd@asd.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(expiration)
+                .setIssuedAt(issuedAt)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private Claims parseWithJjwt(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package org.example.expert.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
+import org.example.expert.common.logging.SecurityEventLogger;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,7 +15,9 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +27,7 @@ public class JwtFilterTest {
     private JwtUtil jwtUtil;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private SecurityEventLogger securityEventLogger;
 
     @InjectMocks
     private JwtFilter jwtFilter;
@@ -38,22 +42,57 @@ public class JwtFilterTest {
         request.addHeader("Authorization", "Bearer token");
         request.setRequestURI("/users");
 
-        Claims claims = mock(Claims.class);
+        VerifiedToken token = new VerifiedToken(1L, "asd@asd.com", "USER", Long.MAX_VALUE);
         given(jwtUtil.substringToken("Bearer token")).willReturn("token");
-        given(jwtUtil.extractClaims("token")).willReturn(claims);
-        given(claims.get("userRole", String.class)).willReturn("USER");
-        // httpRequest 속성
-        given(claims.getSubject()).willReturn("1");
-        given(claims.get("email")).willReturn("asd@asd.com");
-        given(claims.get("userRole")).willReturn("USER");
+        given(jwtUtil.verifyToken("token")).willReturn(token);
 
         // when
         jwtFilter.doFilter(request, response, chain);
 
         // then
         verify(chain).doFilter(request, response);
-        assertEquals(1L, request.getAttribute("userId"));
-        assertEquals("asd@asd.com", request.getAttribute("email"));
-        assertEquals("USER", request.getAttribute("userRole"));
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.REQUEST_ATTRIBUTE);
+        assertEquals(1L, authUser.getId());
+        assertEquals("asd@asd.com", authUser.getEmail());
+        assertEquals(UserRole.USER, authUser.getUserRole());
+    }
+
+    @Test
+    void doFilter_인증헤더가_없으면_401과_샘플링된_보안로그() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        request.setRequestURI("/users");
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        verify(chain, never()).doFilter(request, response);
+        verify(securityEventLogger).warn(eq("missing-header"), eq("인증 헤더 누락: URI={}"), eq("/users"));
+        assertEquals(401, response.getStatus());
+    }
+
+    @Test
+    void doFilter_키링에_없는_kid의_토큰이면_401() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = mock(FilterChain.class);
+
+        request.addHeader("Authorization", "Bearer token");
+        request.setRequestURI("/users");
+
+        given(jwtUtil.substringToken("Bearer token")).willReturn("token");
+        given(jwtUtil.verifyToken("token")).willThrow(new SignatureException("Unknown JWT kid: retired"));
+
+        // when
+        jwtFilter.doFilter(request, response, chain);
+
+        // then
+        verify(chain, never()).doFilter(request, response);
+        assertEquals(401, response.getStatus());
     }
 }
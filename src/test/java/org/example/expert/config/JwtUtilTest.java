@@ -0,0 +1,171 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = Base64.getEncoder()
+            .encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+    private static final String KEY_1 = Base64.getEncoder()
+            .encodeToString("11111111111111111111111111111111".getBytes(StandardCharsets.UTF_8));
+    private static final String KEY_2 = Base64.getEncoder()
+            .encodeToString("22222222222222222222222222222222".getBytes(StandardCharsets.UTF_8));
+
+    @TempDir
+    private Path tempDir;
+
+    private MeterRegistry meterRegistry;
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtUtil = new JwtUtil(meterRegistry);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", true);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void extractClaims가_토큰의_claims를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+
+        // when
+        Claims claims = jwtUtil.extractClaims(token);
+
+        // then
+        assertEquals("1", claims.getSubject());
+        assertEquals("asd@asd.com", claims.get("email", String.class));
+        assertEquals("USER", claims.get("userRole", String.class));
+    }
+
+    @Test
+    void 같은_토큰을_다시_검증하면_서명_검증없이_캐시된_결과를_반환한다() {
+        // given
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+
+        // when
+        VerifiedToken first = jwtUtil.verifyToken(token);
+        VerifiedToken second = jwtUtil.verifyToken(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.token")
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    void 캐시를_끄면_매번_새로_검증한다() {
+        // given
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", false);
+        jwtUtil.init();
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+
+        // when
+        VerifiedToken first = jwtUtil.verifyToken(token);
+        VerifiedToken second = jwtUtil.verifyToken(token);
+
+        // then
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void 키링의_활성_kid로_서명하고_kid로_검증한다() throws IOException {
+        // given
+        Path keyRing = writeKeyRing("active=k1\nkey.k1=" + KEY_1 + "\n", 1);
+        ReflectionTestUtils.setField(jwtUtil, "keyRingPath", keyRing.toString());
+        jwtUtil.init();
+
+        // when
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+        VerifiedToken verified = jwtUtil.verifyToken(token);
+
+        // then
+        assertTrue(header(token).contains("\"kid\":\"k1\""));
+        assertEquals(1L, verified.getUserId());
+    }
+
+    @Test
+    void 키링을_교체하면_재시작없이_새_키로_서명하고_이전_키도_검증한다() throws IOException {
+        // given
+        Path keyRing = writeKeyRing("active=k1\nkey.k1=" + KEY_1 + "\n", 1);
+        ReflectionTestUtils.setField(jwtUtil, "keyRingPath", keyRing.toString());
+        jwtUtil.init();
+        String legacyToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+
+        // when
+        writeKeyRing("active=k2\nkey.k1=" + KEY_1 + "\nkey.k2=" + KEY_2 + "\n", 2);
+        jwtUtil.reloadKeyRingIfModified();
+        String newToken = jwtUtil.substringToken(jwtUtil.createToken(2L, "asd@asd.com", UserRole.USER));
+
+        // then
+        assertTrue(header(newToken).contains("\"kid\":\"k2\""));
+        assertEquals(1L, jwtUtil.verifyToken(legacyToken).getUserId());
+        assertEquals(2L, jwtUtil.verifyToken(newToken).getUserId());
+    }
+
+    @Test
+    void 키링에서_제거된_kid의_토큰은_거부한다() throws IOException {
+        // given
+        Path keyRing = writeKeyRing("active=k1\nkey.k1=" + KEY_1 + "\n", 1);
+        ReflectionTestUtils.setField(jwtUtil, "keyRingPath", keyRing.toString());
+        jwtUtil.init();
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+        jwtUtil.verifyToken(token);
+
+        // when
+        writeKeyRing("active=k2\nkey.k2=" + KEY_2 + "\n", 2);
+        jwtUtil.reloadKeyRingIfModified();
+
+        // then
+        assertThrows(io.jsonwebtoken.security.SignatureException.class, () -> jwtUtil.verifyToken(token));
+    }
+
+    @Test
+    void 잘못된_키링으로_갱신하면_기존_키링을_유지한다() throws IOException {
+        // given
+        Path keyRing = writeKeyRing("active=k1\nkey.k1=" + KEY_1 + "\n", 1);
+        ReflectionTestUtils.setField(jwtUtil, "keyRingPath", keyRing.toString());
+        jwtUtil.init();
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER));
+
+        // when
+        writeKeyRing("active=k3\nkey.k1=" + KEY_1 + "\n", 2);
+        jwtUtil.reloadKeyRingIfModified();
+
+        // then
+        assertEquals(1L, jwtUtil.verifyToken(token).getUserId());
+    }
+
+    private String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+    }
+
+    private Path writeKeyRing(String content, long modifiedSeconds) throws IOException {
+        Path path = tempDir.resolve("jwt-keyring.properties");
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modifiedSeconds * 1000));
+        return path;
+    }
+}
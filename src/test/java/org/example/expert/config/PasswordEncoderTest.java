@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -25,4 +27,24 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 저장된_해시의_cost가_현재_cost보다_낮을_때만_재해시가_필요하다() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 6);
+        String encodedPassword = passwordEncoder.encode("testPassword");
+
+        // when
+        boolean sameCost = passwordEncoder.needsRehash(encodedPassword);
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 7);
+        boolean higherTarget = passwordEncoder.needsRehash(encodedPassword);
+        // 느린 장비에서 보정된 낮은 cost 로는 다시 낮추지 않는다
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 5);
+        boolean lowerTarget = passwordEncoder.needsRehash(encodedPassword);
+
+        // then
+        assertFalse(sameCost);
+        assertTrue(higherTarget);
+        assertFalse(lowerTarget);
+    }
 }
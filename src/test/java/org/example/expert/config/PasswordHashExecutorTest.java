@@ -0,0 +1,92 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashExecutorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashExecutor passwordHashExecutor = new PasswordHashExecutor(meterRegistry, 1, 1, 1);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashExecutor.shutdown();
+    }
+
+    @Test
+    void submit한_작업의_결과를_반환한다() {
+        // when
+        String result = passwordHashExecutor.submit(() -> "hashed").join();
+
+        // then
+        assertEquals("hashed", result);
+        assertEquals(1L, meterRegistry.get("password.hash.latency").timer().count());
+    }
+
+    @Test
+    void 큐가_가득_차면_ServiceUnavailableException을_던진다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = passwordHashExecutor.submit(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "running";
+        });
+        started.await();
+        CompletableFuture<String> queued = passwordHashExecutor.submit(() -> "queued");
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> passwordHashExecutor.submit(() -> "rejected"));
+        assertEquals(1.0, meterRegistry.get("password.hash.queue.depth").gauge().value());
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("running", running.join());
+        assertEquals("queued", queued.join());
+    }
+
+    @Test
+    void 백그라운드_큐가_가득_차면_버리고_사용자_요청은_그대로_받는다() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Optional<CompletableFuture<String>> running = passwordHashExecutor.trySubmitInBackground(() -> {
+            started.countDown();
+            awaitQuietly(release);
+            return "running";
+        });
+        started.await();
+        Optional<CompletableFuture<String>> queued = passwordHashExecutor.trySubmitInBackground(() -> "queued");
+
+        // when
+        Optional<CompletableFuture<String>> dropped = passwordHashExecutor.trySubmitInBackground(() -> "dropped");
+        String userFacing = passwordHashExecutor.submit(() -> "hashed").join();
+
+        // then
+        assertTrue(dropped.isEmpty());
+        assertEquals("hashed", userFacing);
+        assertEquals(0.0, meterRegistry.get("password.hash.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("running", running.orElseThrow().join());
+        assertEquals("queued", queued.orElseThrow().join());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,16 +6,29 @@ import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.SigninAttemptLimiter;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
@@ -30,18 +43,26 @@ public class AuthControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private SigninAttemptLimiter signinAttemptLimiter;
+
     @Test
     public void 회원가입_성공() throws Exception {
         // given
         SignupRequest signupRequest = new SignupRequest("asd@asd.com", "pass", "USER");
         SignupResponse signupResponse = SignupResponse.of("mockedToken");
 
-        given(authService.signup(any(SignupRequest.class))).willReturn(signupResponse);
+        given(authService.signup(any(SignupRequest.class))).willReturn(CompletableFuture.completedFuture(signupResponse));
 
-        // when * then
-        mockMvc.perform(post("/auth/signup")
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/signup")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(signupRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk());
     }
 
@@ -51,12 +72,55 @@ public class AuthControllerTest {
         SigninRequest signinRequest = new SigninRequest("asd@asd.com", "pass");
         SigninResponse signinResponse = SigninResponse.of("mockedToken");
 
-        given(authService.signin(any(SigninRequest.class))).willReturn(signinResponse);
+        given(authService.signin(any(SigninRequest.class))).willReturn(CompletableFuture.completedFuture(signinResponse));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void 해시_작업이_거절되면_503을_반환한다() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("asd@asd.com", "pass");
+
+        given(authService.signin(any(SigninRequest.class))).willReturn(CompletableFuture.failedFuture(
+                new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/auth/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signinRequest)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    public void 로그인_시도가_제한을_넘으면_429를_반환한다() throws Exception {
+        // given
+        SigninRequest signinRequest = new SigninRequest("asd@asd.com", "pass");
+
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."))
+                .given(signinAttemptLimiter).acquire(anyString(), anyString());
 
         // when * then
         mockMvc.perform(post("/auth/signin")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(signinRequest)))
-                .andExpect(status().isOk());
+                .andExpect(status().isTooManyRequests())
+                .andExpect(content().contentType("application/json;charset=UTF-8"));
+
+        verify(authService, never()).signin(any(SigninRequest.class));
     }
 }
@@ -15,13 +15,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -35,6 +44,12 @@ public class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @Spy
+    private Executor callbackExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private AuthService authService;
 
@@ -46,23 +61,26 @@ public class AuthServiceTest {
         User user = User.create(signupRequest.getEmail(), signupRequest.getPassword(), userRole);
         String token = "mockedToken";
 
-        given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
-        given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+        given(passwordEncoder.encodeAsync(anyString())).willReturn(CompletableFuture.completedFuture("encodedPassword"));
         given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(jwtUtil.createToken(user.getId(), user.getEmail(), userRole)).willReturn(token);
 
         // when
-        SignupResponse response = authService.signup(signupRequest);
+        SignupResponse response = authService.signup(signupRequest).join();
 
         // then
         assertNotNull(response);
         assertEquals(response.getBearerToken(), token);
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(registeredEmailFilter).put(signupRequest.getEmail());
     }
 
     @Test
     public void 이미_존재하는_이메일로_회원가입하면_InvalidRequestException을_던진다() {
         // given
         SignupRequest signupRequest = new SignupRequest("asd@asd.com", "pass", "USER");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(true);
         given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(true);
 
         // when & then
@@ -72,6 +90,24 @@ public class AuthServiceTest {
         assertEquals("이미 존재하는 이메일입니다.", exception.getMessage());
     }
 
+    @Test
+    public void 동시_가입으로_unique_제약에_걸리면_InvalidRequestException을_던진다() {
+        // given
+        SignupRequest signupRequest = new SignupRequest("asd@asd.com", "pass", "USER");
+        given(registeredEmailFilter.mightContain(signupRequest.getEmail())).willReturn(true);
+        given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
+        given(passwordEncoder.encodeAsync(anyString())).willReturn(CompletableFuture.completedFuture("encodedPassword"));
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when & then
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> authService.signup(signupRequest).join());
+
+        assertInstanceOf(InvalidRequestException.class, exception.getCause());
+        assertEquals("이미 존재하는 이메일입니다.", exception.getCause().getMessage());
+        verify(registeredEmailFilter).recordFalsePositive();
+    }
+
     @Test
     public void 로그인이_성공한다() {
         // given
@@ -83,17 +119,57 @@ public class AuthServiceTest {
         User user = User.create(email, password, UserRole.USER);
 
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
-        given(passwordEncoder.matches(anyString(), eq(user.getPassword()))).willReturn(true);
+        given(passwordEncoder.matchesAsync(anyString(), eq(user.getPassword()))).willReturn(CompletableFuture.completedFuture(true));
         given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn(token);
 
         // when
-        SigninResponse response = authService.signin(signinRequest);
+        SigninResponse response = authService.signin(signinRequest).join();
 
         // then
         assertNotNull(response);
         assertEquals(response.getBearerToken(), token);
     }
 
+    @Test
+    public void 로그인_시_해시_cost가_낮으면_비밀번호를_재해시한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("asd@asd.com", "pass");
+        User user = User.create("asd@asd.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matchesAsync("pass", "oldHash")).willReturn(CompletableFuture.completedFuture(true));
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encodeInBackground("pass")).willReturn(Optional.of(CompletableFuture.completedFuture("newHash")));
+
+        // when
+        authService.signin(signinRequest).join();
+
+        // then
+        verify(userRepository).updatePassword(1L, "oldHash", "newHash");
+    }
+
+    @Test
+    public void 재해시_큐가_가득_차도_로그인은_성공한다() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("asd@asd.com", "pass");
+        User user = User.create("asd@asd.com", "oldHash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+
+        given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matchesAsync("pass", "oldHash")).willReturn(CompletableFuture.completedFuture(true));
+        given(passwordEncoder.needsRehash("oldHash")).willReturn(true);
+        given(passwordEncoder.encodeInBackground("pass")).willReturn(Optional.empty());
+        given(jwtUtil.createToken(1L, "asd@asd.com", UserRole.USER)).willReturn("mockedToken");
+
+        // when
+        SigninResponse response = authService.signin(signinRequest).join();
+
+        // then
+        assertEquals("mockedToken", response.getBearerToken());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
     @Test
     public void 가입되지_않은_유저일_경우_InvalidRequestException을_던진다() {
         // given
@@ -114,11 +190,13 @@ public class AuthServiceTest {
         User user = User.create("asd@asd.com", "pass", UserRole.USER);
 
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+        given(passwordEncoder.matchesAsync(anyString(), eq(user.getPassword()))).willReturn(CompletableFuture.completedFuture(false));
 
         // when & then
-        AuthException exception = assertThrows(AuthException.class,
-                () -> authService.signin(signinRequest));
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> authService.signin(signinRequest).join());
 
-        assertEquals("잘못된 비밀번호입니다.", exception.getMessage());
+        assertInstanceOf(AuthException.class, exception.getCause());
+        assertEquals("잘못된 비밀번호입니다.", exception.getCause().getMessage());
     }
 }
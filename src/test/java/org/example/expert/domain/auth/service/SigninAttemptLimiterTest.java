@@ -0,0 +1,30 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigninAttemptLimiterTest {
+
+    private final SigninAttemptLimiter signinAttemptLimiter = new SigninAttemptLimiter(
+            new SimpleMeterRegistry(), 1, Duration.ofHours(1), 2, Duration.ofHours(1), 100);
+
+    @Test
+    void 이메일_제한으로_거절된_시도는_IP_한도를_쓰지_않는다() {
+        // given
+        signinAttemptLimiter.acquire("a@a.com", "127.0.0.1");
+
+        // when
+        assertThrows(TooManyRequestsException.class,
+                () -> signinAttemptLimiter.acquire("a@a.com", "127.0.0.1"));
+
+        // then
+        assertDoesNotThrow(() -> signinAttemptLimiter.acquire("b@a.com", "127.0.0.1"));
+        assertThrows(TooManyRequestsException.class,
+                () -> signinAttemptLimiter.acquire("c@a.com", "127.0.0.1"));
+    }
+}
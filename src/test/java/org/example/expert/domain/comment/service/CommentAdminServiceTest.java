@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.service;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 
@@ -23,6 +25,9 @@ public class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private TodoService todoService;
+
     @InjectMocks
     private CommentAdminService commentAdminService;
 
@@ -32,6 +37,7 @@ public class CommentAdminServiceTest {
         long commentId = 1L;
         User user = User.create("asd@asd.com", "pass", UserRole.USER);
         Todo todo = Todo.create("title", "contents", "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", 10L);
         Comment comment = Comment.create("contens", user, todo);
 
         given(commentRepository.findById(anyLong())).willReturn(Optional.of(comment));
@@ -42,5 +48,6 @@ public class CommentAdminServiceTest {
 
         // then
         verify(commentRepository, times(1)).deleteById(anyLong());
+        verify(todoService).addCommentCount(10L, -1);
     }
 }
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -74,6 +75,7 @@ class CommentServiceTest {
 
         // then
         assertNotNull(result);
+        verify(todoService).addCommentCount(todoId, 1);
     }
 
     @Test
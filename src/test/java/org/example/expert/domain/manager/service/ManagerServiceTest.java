@@ -121,6 +121,7 @@ class ManagerServiceTest {
         assertNotNull(response);
         assertEquals(managerUser.getId(), response.getUser().getId());
         assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+        verify(todoService).addManagerCount(todoId, 1);
     }
 
     @Test
@@ -193,6 +194,7 @@ class ManagerServiceTest {
 
         // then
         verify(managerRepository, times(1)).delete(manager);
+        verify(todoService).addManagerCount(todoId, -1);
     }
 
     @Test
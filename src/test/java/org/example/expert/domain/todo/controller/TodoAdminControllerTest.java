@@ -0,0 +1,60 @@
+package org.example.expert.domain.todo.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.example.expert.domain.todo.service.TodoAdminService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TodoAdminController.class)
+public class TodoAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TodoAdminService todoAdminService;
+
+    @Test
+    public void Todo_여러_건_삭제_성공() throws Exception {
+        // given
+        TodoBulkDeleteRequest request = new TodoBulkDeleteRequest(List.of(1L, 2L, 3L));
+
+        given(todoAdminService.deleteTodos(any(TodoBulkDeleteRequest.class))).willReturn(3);
+
+        // when & then
+        mockMvc.perform(delete("/admin/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void 삭제할_id가_없으면_400을_응답한다() throws Exception {
+        // given
+        TodoBulkDeleteRequest request = new TodoBulkDeleteRequest(List.of());
+
+        // when & then
+        mockMvc.perform(delete("/admin/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(todoAdminService, never()).deleteTodos(any());
+    }
+}
@@ -3,9 +3,12 @@ package org.example.expert.domain.todo.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.expert.config.AuthUserArgumentResolver;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.junit.jupiter.api.Test;
@@ -21,7 +24,11 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -63,6 +70,50 @@ public class TodoControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void Todo_여러_건_저장에_성공한다() throws Exception {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        ));
+        UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
+        List<TodoSaveResponse> responses = List.of(
+                TodoSaveResponse.of(1L, "title1", "contents1", "Sunny", userResponse),
+                TodoSaveResponse.of(2L, "title2", "contents2", "Sunny", userResponse)
+        );
+
+        given(todoService.saveTodos(any(), any(TodoBatchSaveRequest.class))).willReturn(responses);
+
+        // when & then
+        mockMvc.perform(post("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2L));
+    }
+
+    @Test
+    public void Todo_여러_건_저장_시_잘못된_항목의_위치를_응답한다() throws Exception {
+        // given
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest(" ", "contents2"),
+                new TodoSaveRequest("title3", "")
+        ));
+
+        // when & then
+        mockMvc.perform(post("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.length()").value(2))
+                .andExpect(jsonPath("$.errors[?(@.field == 'todos[1].title')]").exists())
+                .andExpect(jsonPath("$.errors[?(@.field == 'todos[2].contents')]").exists());
+        verify(todoService, never()).saveTodos(any(), any());
+    }
+
     @Test
     public void Todo_목록을_페이지_조회_성공() throws Exception {
         // given
@@ -71,8 +122,8 @@ public class TodoControllerTest {
 
         UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
 
-        TodoResponse todo1 = TodoResponse.of(1L, "title1", "contents1", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now());
-        TodoResponse todo2 = TodoResponse.of(2L, "title2", "contents2", "Rainy", userResponse, LocalDateTime.now(), LocalDateTime.now());
+        TodoResponse todo1 = TodoResponse.of(1L, "title1", "contents1", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        TodoResponse todo2 = TodoResponse.of(2L, "title2", "contents2", "Rainy", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
 
         List<TodoResponse> todoList = List.of(todo1, todo2);
         PageImpl<TodoResponse> responsePage = new PageImpl<>(todoList);
@@ -91,12 +142,81 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.content[1].title").value(todo2.getTitle()));
     }
 
+    @Test
+    public void Todo_목록을_Slice로_조회_성공() throws Exception {
+        // given
+        UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
+        TodoResponse todo = TodoResponse.of(1L, "title1", "contents1", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+
+        given(todoService.getTodoSlice(1, 10)).willReturn(new TodoSliceResponse(List.of(todo), 1, 10, false));
+
+        // when * then
+        mockMvc.perform(get("/todos/slice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    public void Todo_목록을_커서로_조회_성공() throws Exception {
+        // given
+        UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
+        TodoResponse todo = TodoResponse.of(3L, "title3", "contents3", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        TodoCursorResponse response = new TodoCursorResponse(List.of(todo), "next", true);
+
+        given(todoService.getTodosByCursor("cursor", 1)).willReturn(response);
+
+        // when * then
+        mockMvc.perform(get("/todos/cursor")
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    public void 내가_작성한_Todo_목록을_커서로_조회_성공() throws Exception {
+        // given
+        UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
+        TodoResponse todo = TodoResponse.of(3L, "title3", "contents3", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+        TodoCursorResponse response = new TodoCursorResponse(List.of(todo), null, false);
+
+        given(todoService.getMyTodos(any(), eq("cursor"), eq(10))).willReturn(response);
+
+        // when * then
+        mockMvc.perform(get("/users/me/todos")
+                        .param("cursor", "cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(3L))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    public void 내가_담당한_Todo_목록을_커서로_조회_성공() throws Exception {
+        // given
+        UserResponse userResponse = UserResponse.of(2L, "qwe@qwe.com");
+        TodoResponse todo = TodoResponse.of(5L, "title5", "contents5", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 2);
+        TodoCursorResponse response = new TodoCursorResponse(List.of(todo), "next", true);
+
+        given(todoService.getManagedTodos(any(), eq(null), eq(1))).willReturn(response);
+
+        // when * then
+        mockMvc.perform(get("/users/me/managed-todos")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].managerCount").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
     @Test
     public void Todo_단건_조회_성공() throws Exception{
         // given
         long todoId = 1L;
         UserResponse userResponse = UserResponse.of(1L, "asd@asd.com");
-        TodoResponse todoResponse = TodoResponse.of(1L, "title", "contents", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now());
+        TodoResponse todoResponse = TodoResponse.of(1L, "title", "contents", "Sunny", userResponse, LocalDateTime.now(), LocalDateTime.now(), 0, 1);
 
         given(todoService.getTodo(anyLong())).willReturn(todoResponse);
 
@@ -105,4 +225,15 @@ public class TodoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(todoId));
     }
+
+    @Test
+    public void Todo_삭제_성공() throws Exception {
+        // given
+        long todoId = 1L;
+
+        // when & then
+        mockMvc.perform(delete("/todos/{todoId}", todoId))
+                .andExpect(status().isOk());
+        verify(todoService).deleteTodo(any(), eq(todoId));
+    }
 }
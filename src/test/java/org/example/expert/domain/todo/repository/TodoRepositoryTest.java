@@ -0,0 +1,191 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-repository;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void id를_미리_할당하고_flush_때_테이블별로_batch_insert한다() {
+        // given
+        User user = userRepository.saveAndFlush(User.create("asd@asd.com", "pass", UserRole.USER));
+        List<Todo> todos = IntStream.range(0, 3)
+                .mapToObj(i -> Todo.create("title" + i, "contents" + i, "Sunny", user))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        todoRepository.saveAll(todos);
+        long insertedBeforeFlush = countTodos();
+        statistics.clear();
+        entityManager.flush();
+
+        // then
+        assertThat(todos).extracting(Todo::getId).doesNotContainNull();
+        assertThat(todos.get(1).getId()).isEqualTo(todos.get(0).getId() + 1);
+        assertThat(insertedBeforeFlush).isZero();
+        assertThat(countTodos()).isEqualTo(3);
+        // todos 3건, managers 3건이 각각 PreparedStatement 하나로 나간다
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 목록_조회는_엔티티를_영속성_컨텍스트에_올리지_않고_DTO로_반환한다() {
+        // given
+        User user = userRepository.save(User.create("asd@asd.com", "pass", UserRole.USER));
+        todoRepository.saveAll(List.of(
+                Todo.create("title1", "contents1", "Sunny", user),
+                Todo.create("title2", "contents2", "Rainy", user)
+        ));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<TodoQueryDto> todos = todoRepository.findLatest(PageRequest.ofSize(10));
+
+        // then
+        assertThat(todos).extracting(TodoQueryDto::getTitle).containsExactlyInAnyOrder("title1", "title2");
+        assertThat(todos).extracting(TodoQueryDto::getUserEmail).containsOnly("asd@asd.com");
+        assertThat(todos).extracting(TodoQueryDto::getModifiedAt).doesNotContainNull();
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void 댓글_수와_관계없이_테이블마다_DELETE_한_문장으로_삭제한다() {
+        // given
+        User user = userRepository.save(User.create("asd@asd.com", "pass", UserRole.USER));
+        Todo todo = todoRepository.save(Todo.create("title", "contents", "Sunny", user));
+        Todo other = todoRepository.save(Todo.create("other", "contents", "Sunny", user));
+        commentRepository.saveAll(IntStream.range(0, 200)
+                .mapToObj(i -> Comment.create("comment" + i, user, i % 2 == 0 ? todo : other))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<Long> todoIds = List.of(todo.getId(), other.getId());
+
+        // when
+        int deletedComments = commentRepository.deleteAllByTodoIdIn(todoIds);
+        int deletedManagers = managerRepository.deleteAllByTodoIdIn(todoIds);
+        int deletedTodos = todoRepository.deleteAllByIdIn(todoIds);
+
+        // then
+        assertThat(deletedComments).isEqualTo(200);
+        assertThat(deletedManagers).isEqualTo(2);
+        assertThat(deletedTodos).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(countTodos()).isZero();
+    }
+
+    @Test
+    void 댓글_담당자_수를_UPDATE로_더하고_reconcile로_실제_행_수에_맞춘다() {
+        // given
+        User user = userRepository.save(User.create("asd@asd.com", "pass", UserRole.USER));
+        Todo todo = todoRepository.save(Todo.create("title", "contents", "Sunny", user));
+        commentRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Comment.create("comment" + i, user, todo))
+                .toList());
+        entityManager.flush();
+        todoRepository.addCommentCount(todo.getId(), 3);
+        todoRepository.addManagerCount(todo.getId(), 1);
+
+        // when
+        TodoQueryDto beforeReconcile = todoRepository.findByIdWithUser(todo.getId()).orElseThrow();
+        todoRepository.reconcileCounts(todo.getId(), todo.getId());
+        TodoQueryDto afterReconcile = todoRepository.findByIdWithUser(todo.getId()).orElseThrow();
+
+        // then
+        assertThat(beforeReconcile.getCommentCount()).isEqualTo(3);
+        assertThat(beforeReconcile.getManagerCount()).isEqualTo(2);
+        assertThat(afterReconcile.getCommentCount()).isEqualTo(3);
+        assertThat(afterReconcile.getManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 담당_todo는_todo_id_역순으로_DTO로_조회한다() {
+        // given
+        User owner = userRepository.save(User.create("asd@asd.com", "pass", UserRole.USER));
+        User manager = userRepository.save(User.create("qwe@qwe.com", "pass", UserRole.USER));
+        List<Todo> todos = todoRepository.saveAll(IntStream.range(0, 3)
+                .mapToObj(i -> Todo.create("title" + i, "contents" + i, "Sunny", owner))
+                .toList());
+        managerRepository.saveAll(todos.stream().map(todo -> Manager.create(manager, todo)).toList());
+        entityManager.flush();
+        entityManager.clear();
+        Long newestId = todos.get(2).getId();
+
+        // when
+        List<TodoQueryDto> firstPage = managerRepository.findManagedTodos(manager.getId(), PageRequest.ofSize(2));
+        List<TodoQueryDto> nextPage = managerRepository.findManagedTodosBefore(manager.getId(), firstPage.get(1).getId(), PageRequest.ofSize(2));
+
+        // then
+        assertThat(firstPage).extracting(TodoQueryDto::getId).containsExactly(newestId, todos.get(1).getId());
+        assertThat(firstPage).extracting(TodoQueryDto::getUserEmail).containsOnly("asd@asd.com");
+        assertThat(nextPage).extracting(TodoQueryDto::getId).containsExactly(todos.get(0).getId());
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    private long countTodos() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.request.TodoBulkDeleteRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoAdminServiceTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @InjectMocks
+    private TodoAdminService todoAdminService;
+
+    @Test
+    public void 중복된_id를_제거하고_한꺼번에_삭제한다() {
+        // given
+        TodoBulkDeleteRequest request = new TodoBulkDeleteRequest(List.of(1L, 2L, 1L));
+
+        given(todoService.deleteAll(List.of(1L, 2L))).willReturn(2);
+
+        // when
+        int deleted = todoAdminService.deleteTodos(request);
+
+        // then
+        assertEquals(2, deleted);
+        verify(todoService).deleteAll(List.of(1L, 2L));
+    }
+}
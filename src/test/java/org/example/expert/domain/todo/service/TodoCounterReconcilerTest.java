@@ -0,0 +1,74 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterReconcilerTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Test
+    void id_순서대로_chunk_단위_구간을_보정한다() {
+        // given
+        TodoCounterReconciler reconciler = new TodoCounterReconciler(todoRepository, cache(), 2, 10);
+        given(todoRepository.findIdsAfter(0L, PageRequest.ofSize(2))).willReturn(List.of(1L, 3L));
+        given(todoRepository.findIdsAfter(3L, PageRequest.ofSize(2))).willReturn(List.of(7L));
+        given(todoRepository.findIdsAfter(7L, PageRequest.ofSize(2))).willReturn(List.of());
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(todoRepository).reconcileCounts(1L, 3L);
+        verify(todoRepository).reconcileCounts(7L, 7L);
+    }
+
+    @Test
+    void 한_번에_max_chunks_구간까지만_처리하고_다음_실행에서_이어간다() {
+        // given
+        TodoCounterReconciler reconciler = new TodoCounterReconciler(todoRepository, cache(), 2, 1);
+        given(todoRepository.findIdsAfter(0L, PageRequest.ofSize(2))).willReturn(List.of(1L, 3L));
+        given(todoRepository.findIdsAfter(3L, PageRequest.ofSize(2))).willReturn(List.of(7L));
+
+        // when
+        reconciler.reconcile();
+        verify(todoRepository).reconcileCounts(1L, 3L);
+        verify(todoRepository, never()).reconcileCounts(7L, 7L);
+        reconciler.reconcile();
+
+        // then
+        verify(todoRepository).reconcileCounts(7L, 7L);
+    }
+
+    @Test
+    void 보정_중_실패해도_예외를_던지지_않는다() {
+        // given
+        TodoCounterReconciler reconciler = new TodoCounterReconciler(todoRepository, cache(), 2, 10);
+        given(todoRepository.findIdsAfter(0L, PageRequest.ofSize(2))).willThrow(new IllegalStateException("db down"));
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        verify(todoRepository, never()).reconcileCounts(anyLong(), anyLong());
+    }
+
+    private TodoResponseCache cache() {
+        return new TodoResponseCache(new SimpleMeterRegistry(), 1024, Duration.ofMinutes(1));
+    }
+}
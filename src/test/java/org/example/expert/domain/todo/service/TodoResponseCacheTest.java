@@ -0,0 +1,87 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_키에_동시에_miss가_나도_loader는_한번만_실행된다() throws Exception {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(meterRegistry, 1024 * 1024, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<TodoResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return cache.get(1L, todoId -> {
+                    loads.incrementAndGet();
+                    sleep();
+                    return response(todoId, "title");
+                });
+            }));
+        }
+        start.countDown();
+
+        // then
+        TodoResponse first = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<TodoResponse> future : futures) {
+            assertSame(first, future.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdownNow();
+    }
+
+    @Test
+    void invalidate하면_다시_로드한다() {
+        // given
+        TodoResponseCache cache = new TodoResponseCache(meterRegistry, 1024 * 1024, Duration.ofMinutes(10));
+        cache.get(1L, todoId -> response(todoId, "before"));
+
+        // when
+        cache.invalidate(1L);
+        TodoResponse reloaded = cache.get(1L, todoId -> response(todoId, "after"));
+
+        // then
+        assertEquals("after", reloaded.getTitle());
+        assertEquals(2.0, meterRegistry.get("cache.gets")
+                .tag("cache", "todo.response")
+                .tag("result", "miss")
+                .functionCounter()
+                .count());
+    }
+
+    private TodoResponse response(long todoId, String title) {
+        return TodoResponse.of(todoId, title, "contents", "Sunny", UserResponse.of(1L, "asd@asd.com"),
+                LocalDateTime.now(), LocalDateTime.now(), 0, 1);
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.client.WeatherProperties;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 날씨 upstream 이 느린 동안 todo 생성 요청들이 DB 커넥션을 잡고 있지 않은지 확인한다.
+ * stub 서버가 응답을 지연하는 동안 Hikari 의 active 커넥션 수를 기록한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:todo-save;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import({PersistenceConfig.class, TodoService.class, TodoResponseCache.class, TodoSaveConnectionTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoSaveConnectionTest {
+
+    private static final long UPSTREAM_DELAY_MILLIS = 300;
+    private static final AtomicInteger maxActiveDuringUpstream = new AtomicInteger();
+    private static volatile HikariDataSource hikariDataSource;
+    private static final HttpServer server = startStubServer();
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날씨_upstream이_느려도_todo_생성이_커넥션을_점유하지_않는다() throws Exception {
+        // given
+        hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+        User user = userRepository.save(User.create("asd@asd.com", "pass", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+        int concurrency = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(0, maxActiveDuringUpstream.get());
+        assertEquals(concurrency, todoRepository.count());
+    }
+
+    private static HttpServer startStubServer() {
+        try {
+            HttpServer stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            stub.createContext("/f-api/weather.json", exchange -> {
+                long deadline = System.currentTimeMillis() + UPSTREAM_DELAY_MILLIS;
+                while (System.currentTimeMillis() < deadline) {
+                    recordActiveConnections();
+                    sleep(10);
+                }
+
+                String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+                byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            stub.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void recordActiveConnections() {
+        HikariDataSource current = hikariDataSource;
+        if (current != null && current.getHikariPoolMXBean() != null) {
+            maxActiveDuringUpstream.accumulateAndGet(current.getHikariPoolMXBean().getActiveConnections(), Math::max);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        WeatherClient weatherClient(MeterRegistry meterRegistry) {
+            WeatherProperties properties = new WeatherProperties();
+            properties.getApi().setUrls(List.of("http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json"));
+            properties.setTimeout(Duration.ofSeconds(5));
+            return new WeatherClient(properties, new ObjectMapper(), meterRegistry);
+        }
+    }
+}
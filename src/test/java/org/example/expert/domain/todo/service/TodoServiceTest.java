@@ -1,11 +1,20 @@
 package org.example.expert.domain.todo.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.ManagedTodoCursor;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoQueryDto;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSliceResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -15,13 +24,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -30,7 +41,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -38,9 +53,18 @@ public class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
     @Mock
     private WeatherClient weatherClient;
 
+    @Spy
+    private TodoResponseCache todoResponseCache = new TodoResponseCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(10));
+
     @InjectMocks
     private TodoService todoService;
 
@@ -56,7 +80,7 @@ public class TodoServiceTest {
 
         TodoSaveRequest todoSaveRequest = new TodoSaveRequest("title", "contents");
 
-        given(weatherClient.getTodayWeather()).willReturn(weather);
+        given(weatherClient.getTodayWeatherOrFallback()).willReturn(weather);
         given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         // when
@@ -71,33 +95,57 @@ public class TodoServiceTest {
         assertEquals(todoSaveResponse.getUser().getEmail(), todo.getUser().getEmail());
     }
 
+    @Test
+    public void todo_여러_건을_날씨_한_번_조회로_한꺼번에_등록한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+        TodoBatchSaveRequest request = new TodoBatchSaveRequest(List.of(
+                new TodoSaveRequest("title1", "contents1"),
+                new TodoSaveRequest("title2", "contents2")
+        ));
+
+        given(weatherClient.getTodayWeatherOrFallback()).willReturn("Sunny");
+        given(todoRepository.saveAll(any())).willAnswer(invocation -> {
+            List<Todo> todos = invocation.getArgument(0);
+            for (int i = 0; i < todos.size(); i++) {
+                ReflectionTestUtils.setField(todos.get(i), "id", 10L + i);
+            }
+            return todos;
+        });
+
+        // when
+        List<TodoSaveResponse> responses = todoService.saveTodos(authUser, request);
+
+        // then
+        assertThat(responses).extracting(TodoSaveResponse::getId).containsExactly(10L, 11L);
+        assertThat(responses).extracting(TodoSaveResponse::getTitle).containsExactly("title1", "title2");
+        assertThat(responses).extracting(TodoSaveResponse::getWeather).containsOnly("Sunny");
+        verify(weatherClient, times(1)).getTodayWeatherOrFallback();
+        verify(todoRepository, never()).save(any());
+    }
+
     @Test
     public void 존재하는_Todos를_조회하면_Page로_반환된다() {
         // given
         int page = 1;
         int size = 10;
 
-        User user = User.create("asd@asd.com", "pass", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
-
-        Todo todo1 = Todo.create("title1", "contents1", "Sunny", user);
-        ReflectionTestUtils.setField(todo1, "id", 1L);
-
-        Todo todo2 = Todo.create("title2", "contents2", "Sunny", user);
-        ReflectionTestUtils.setField(todo2, "id", 2L);
+        LocalDateTime now = LocalDateTime.now();
+        TodoQueryDto todo1 = todo(1L, now);
+        TodoQueryDto todo2 = todo(2L, now);
 
-        List<Todo> todos = List.of(todo1, todo2);
+        List<TodoQueryDto> todos = List.of(todo1, todo2);
         Pageable pageable = PageRequest.of(page - 1, size);
-        PageImpl<Todo> todoPage = new PageImpl<>(todos, pageable, todos.size());
+        SliceImpl<TodoQueryDto> todoSlice = new SliceImpl<>(todos, pageable, false);
 
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoPage);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todoSlice);
 
         // when
         Page<TodoResponse> todoResponses = todoService.getTodos(page, size);
 
         // then
         assertNotNull(todoResponses);
-        assertThat(todoResponses.getTotalElements()).isEqualTo(todoPage.getTotalElements());
+        assertThat(todoResponses.getTotalElements()).isEqualTo(todos.size());
 
         List<TodoResponse> expectedResponses = List.of(
                 TodoResponse.of(
@@ -105,18 +153,22 @@ public class TodoServiceTest {
                         todo1.getTitle(),
                         todo1.getContents(),
                         todo1.getWeather(),
-                        UserResponse.of(user.getId(), user.getEmail()),
+                        UserResponse.of(todo1.getUserId(), todo1.getUserEmail()),
                         todo1.getCreatedAt(),
-                        todo1.getModifiedAt()
+                        todo1.getModifiedAt(),
+                        todo1.getCommentCount(),
+                        todo1.getManagerCount()
                 ),
                 TodoResponse.of(
                         todo2.getId(),
                         todo2.getTitle(),
                         todo2.getContents(),
                         todo2.getWeather(),
-                        UserResponse.of(user.getId(), user.getEmail()),
+                        UserResponse.of(todo2.getUserId(), todo2.getUserEmail()),
                         todo2.getCreatedAt(),
-                        todo2.getModifiedAt()
+                        todo2.getModifiedAt(),
+                        todo2.getCommentCount(),
+                        todo2.getManagerCount()
                 )
         );
 
@@ -128,17 +180,74 @@ public class TodoServiceTest {
 
 
     @Test
-    public void 존재하는_todoId로_조회하면_TodoResponse를_반환한다() {
+    public void 다음_페이지가_있으면_정확한_전체건수를_반환한다() {
         // given
-        long todoId = 1L;
+        TodoQueryDto todo = todo(1L, LocalDateTime.now());
 
-        User user = User.create("asd@asd.com", "pass", UserRole.USER);
-        ReflectionTestUtils.setField(user, "id", 1L);
+        Pageable pageable = PageRequest.of(0, 1);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(List.of(todo), pageable, true));
+        given(todoRepository.count()).willReturn(100L);
 
-        Todo todo = Todo.create("title", "contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        ReflectionTestUtils.setField(todo, "createdAt", LocalDateTime.now());
-        ReflectionTestUtils.setField(todo, "modifiedAt", LocalDateTime.now());
+        // when
+        Page<TodoResponse> todoResponses = todoService.getTodos(1, 1);
+
+        // then
+        assertEquals(100L, todoResponses.getTotalElements());
+        assertEquals(100, todoResponses.getTotalPages());
+    }
+
+    @Test
+    public void 마지막_페이지이면_COUNT_없이_전체건수를_계산한다() {
+        // given
+        TodoQueryDto todo = todo(1L, LocalDateTime.now());
+
+        Pageable pageable = PageRequest.of(2, 1);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(List.of(todo), pageable, false));
+
+        // when
+        Page<TodoResponse> todoResponses = todoService.getTodos(3, 1);
+
+        // then
+        assertEquals(3L, todoResponses.getTotalElements());
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    public void 범위를_넘은_페이지는_COUNT로_전체건수를_구한다() {
+        // given
+        Pageable pageable = PageRequest.of(9, 10);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(List.of(), pageable, false));
+        given(todoRepository.count()).willReturn(25L);
+
+        // when
+        Page<TodoResponse> todoResponses = todoService.getTodos(10, 10);
+
+        // then
+        assertEquals(25L, todoResponses.getTotalElements());
+        assertTrue(todoResponses.getContent().isEmpty());
+    }
+
+    @Test
+    public void Slice로_조회하면_다음페이지_여부만_반환한다() {
+        // given
+        TodoQueryDto todo = todo(1L, LocalDateTime.now());
+
+        Pageable pageable = PageRequest.of(0, 1);
+        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(new SliceImpl<>(List.of(todo), pageable, true));
+
+        // when
+        TodoSliceResponse response = todoService.getTodoSlice(1, 1);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    public void 존재하는_todoId로_조회하면_TodoResponse를_반환한다() {
+        // given
+        long todoId = 1L;
+        TodoQueryDto todo = todo(todoId, LocalDateTime.now());
 
         given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
 
@@ -151,12 +260,41 @@ public class TodoServiceTest {
         assertEquals(todo.getTitle(), todoResponse.getTitle());
         assertEquals(todo.getContents(), todoResponse.getContents());
         assertEquals(todo.getWeather(), todoResponse.getWeather());
-        assertEquals(user.getId(), todoResponse.getUser().getId());
-        assertEquals(user.getEmail(), todoResponse.getUser().getEmail());
+        assertEquals(todo.getUserId(), todoResponse.getUser().getId());
+        assertEquals(todo.getUserEmail(), todoResponse.getUser().getEmail());
         assertNotNull(todoResponse.getCreatedAt());
         assertNotNull(todoResponse.getModifiedAt());
     }
 
+    @Test
+    public void 같은_todoId를_다시_조회하면_캐시에서_반환한다() {
+        // given
+        long todoId = 1L;
+        TodoQueryDto todo = todo(todoId, LocalDateTime.now());
+
+        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+
+        // when
+        TodoResponse first = todoService.getTodo(todoId);
+        TodoResponse second = todoService.getTodo(todoId);
+
+        // then
+        assertSame(first, second);
+        verify(todoRepository, times(1)).findByIdWithUser(todoId);
+    }
+
+    @Test
+    public void 존재하지_않는_todo는_캐시하지_않는다() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
+        verify(todoRepository, times(2)).findByIdWithUser(todoId);
+    }
+
     @Test
     public void 존재하는_todoId로_조회하면_Todo를_반환한다() {
         // given
@@ -193,4 +331,157 @@ public class TodoServiceTest {
 
         assertEquals("Todo not found", exception.getMessage());
     }
+
+    @Test
+    public void 커서없이_조회하면_첫페이지와_다음커서를_반환한다() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0, 0, 123_456_000);
+        TodoQueryDto todo3 = todo(3L, now);
+        TodoQueryDto todo2 = todo(2L, now);
+        TodoQueryDto todo1 = todo(1L, now.minusMinutes(1));
+
+        given(todoRepository.findLatest(PageRequest.ofSize(3))).willReturn(List.of(todo3, todo2, todo1));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(null, 2);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        TodoCursor next = TodoCursor.decode(response.getNextCursor());
+        assertEquals(now, next.getModifiedAt());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    public void 커서로_조회하면_커서_이후부터_조회하고_마지막페이지면_다음커서가_없다() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0);
+        TodoQueryDto todo1 = todo(1L, now.minusMinutes(1));
+        String cursor = new TodoCursor(now, 2L).encode();
+
+        given(todoRepository.findLatestBefore(eq(now), eq(2L), eq(PageRequest.ofSize(3)))).willReturn(List.of(todo1));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, 2);
+
+        // then
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+        verify(todoRepository, never()).findLatest(any(Pageable.class));
+    }
+
+    @Test
+    public void 내가_작성한_todo를_커서로_조회한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0);
+        String cursor = new TodoCursor(now, 5L).encode();
+
+        given(todoRepository.findLatestByUserIdBefore(1L, now, 5L, PageRequest.ofSize(3)))
+                .willReturn(List.of(todo(4L, now), todo(2L, now.minusMinutes(1)), todo(1L, now.minusMinutes(2))));
+
+        // when
+        TodoCursorResponse response = todoService.getMyTodos(authUser, cursor, 2);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(4L, 2L);
+        assertEquals(2L, TodoCursor.decode(response.getNextCursor()).getId());
+        verify(todoRepository, never()).findLatestBefore(any(), any(), any());
+    }
+
+    @Test
+    public void 내가_담당한_todo를_todo_id_역순으로_조회하고_todo_id_커서를_반환한다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
+        LocalDateTime now = LocalDateTime.of(2024, 9, 1, 12, 0);
+
+        given(managerRepository.findManagedTodos(1L, PageRequest.ofSize(3))).willReturn(List.of(todo(7L, now), todo(5L, now), todo(4L, now)));
+        given(managerRepository.findManagedTodosBefore(1L, 5L, PageRequest.ofSize(3))).willReturn(List.of(todo(4L, now)));
+
+        // when
+        TodoCursorResponse first = todoService.getManagedTodos(authUser, null, 2);
+        TodoCursorResponse next = todoService.getManagedTodos(authUser, first.getNextCursor(), 2);
+
+        // then
+        assertTrue(first.isHasNext());
+        assertThat(first.getContent()).extracting(TodoResponse::getId).containsExactly(7L, 5L);
+        assertEquals(5L, ManagedTodoCursor.decode(first.getNextCursor()).getTodoId());
+        assertFalse(next.isHasNext());
+        assertThat(next.getContent()).extracting(TodoResponse::getId).containsExactly(4L);
+    }
+
+    @Test
+    public void 내_todo_커서로_담당_todo를_조회하면_InvalidRequestException을_던진다() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
+        String myTodosCursor = new TodoCursor(LocalDateTime.of(2024, 9, 1, 12, 0), 5L).encode();
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getManagedTodos(authUser, myTodosCursor, 2));
+    }
+
+    @Test
+    public void 잘못된_커서로_조회하면_InvalidRequestException을_던진다() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("not-a-cursor", 10));
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor(null, 0));
+    }
+
+    @Test
+    public void 작성자가_todo를_삭제하면_댓글과_담당자를_한_번에_지우고_캐시를_비운다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
+        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo(todoId, LocalDateTime.now())));
+        todoService.getTodo(todoId);
+
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
+        given(todoRepository.deleteAllByIdIn(List.of(todoId))).willReturn(1);
+
+        // when
+        todoService.deleteTodo(authUser, todoId);
+
+        // then
+        verify(commentRepository).deleteAllByTodoIdIn(List.of(todoId));
+        verify(managerRepository).deleteAllByTodoIdIn(List.of(todoId));
+        verify(todoRepository).deleteAllByIdIn(List.of(todoId));
+        verify(todoResponseCache).invalidate(todoId);
+    }
+
+    @Test
+    public void 작성자가_아니면_todo를_삭제할_수_없다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(2L, "b@b.com", UserRole.USER);
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.of(1L));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, todoId));
+
+        // then
+        assertEquals("일정을 생성한 유저만 일정을 삭제할 수 있습니다.", exception.getMessage());
+        verify(commentRepository, never()).deleteAllByTodoIdIn(any());
+        verify(todoRepository, never()).deleteAllByIdIn(any());
+    }
+
+    @Test
+    public void 존재하지_않는_todo를_삭제하면_InvalidRequestException을_던진다() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "asd@asd.com", UserRole.USER);
+        given(todoRepository.findUserIdById(todoId)).willReturn(Optional.empty());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.deleteTodo(authUser, todoId));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private TodoQueryDto todo(Long id, LocalDateTime modifiedAt) {
+        return new TodoQueryDto(id, "title" + id, "contents" + id, "Sunny", 1L, "asd@asd.com", modifiedAt, modifiedAt, 0, 1);
+    }
 }
@@ -0,0 +1,102 @@
+package org.example.expert.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션을 MySQL 모드 H2 에 적용하고, 주요 조회 쿼리가 full scan 으로 돌아가지 않는지 EXPLAIN 으로 확인한다.
+ * 쿼리는 Hibernate 가 만드는 SQL 과 같은 형태로 작성한다.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (1, 'asd@asd.com', 'pass', 'USER')");
+        for (int i = 1; i <= 200; i++) {
+            jdbcTemplate.update("INSERT INTO todos (id, modified_at, title, user_id) VALUES (?, DATEADD(SECOND, ?, TIMESTAMP '2024-09-01 00:00:00'), 'title', 1)", i, i);
+            jdbcTemplate.update("INSERT INTO comments (todo_id, user_id, contents) VALUES (?, 1, 'comment')", i);
+            jdbcTemplate.update("INSERT INTO managers (todo_id, user_id) VALUES (?, 1)", i);
+        }
+    }
+
+    @Test
+    void todo_목록은_modified_at_인덱스로_정렬한다() {
+        String plan = explain("SELECT t.id FROM todos t ORDER BY t.modified_at DESC, t.id DESC LIMIT 11 OFFSET 0");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_todos_modified_at_id");
+    }
+
+    @Test
+    void todo_커서_조회는_modified_at_인덱스를_탄다() {
+        String plan = explain("SELECT t.id FROM todos t " +
+                "WHERE t.modified_at <= TIMESTAMP '2024-09-01 00:01:00' " +
+                "AND (t.modified_at < TIMESTAMP '2024-09-01 00:01:00' OR t.id < 60) " +
+                "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_todos_modified_at_id");
+    }
+
+    @Test
+    void 사용자별_todo_조회는_user_id_modified_at_인덱스를_탄다() {
+        String plan = explain("SELECT t.id FROM todos t WHERE t.user_id = 1 ORDER BY t.modified_at DESC LIMIT 11");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_todos_user_id_modified_at");
+    }
+
+    @Test
+    void 내_todo_커서_조회는_user_id_modified_at_인덱스를_탄다() {
+        String plan = explain("SELECT t.id FROM todos t WHERE t.user_id = 1 " +
+                "AND t.modified_at <= TIMESTAMP '2024-09-01 00:01:00' " +
+                "AND (t.modified_at < TIMESTAMP '2024-09-01 00:01:00' OR t.id < 60) " +
+                "ORDER BY t.modified_at DESC, t.id DESC LIMIT 11");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_todos_user_id_modified_at");
+    }
+
+    @Test
+    void 담당_todo_커서_조회는_user_id_todo_id_인덱스를_탄다() {
+        String plan = explain("SELECT t.id, t.title, u.email FROM managers m " +
+                "JOIN todos t ON t.id = m.todo_id JOIN users u ON u.id = t.user_id " +
+                "WHERE m.user_id = 1 AND m.todo_id < 100 ORDER BY m.todo_id DESC LIMIT 11");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_managers_user_id_todo_id");
+    }
+
+    @Test
+    void 댓글_조회는_todo_id_인덱스를_탄다() {
+        String plan = explain("SELECT c.id, c.contents, u.id, u.email FROM comments c " +
+                "JOIN users u ON u.id = c.user_id WHERE c.todo_id = 10");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("fk_comments_todo");
+    }
+
+    @Test
+    void 담당자_조회는_todo_id_인덱스를_탄다() {
+        String plan = explain("SELECT m.id, u.id, u.email, m.todo_id FROM managers m " +
+                "JOIN users u ON u.id = m.user_id WHERE m.todo_id = 10");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan").contains("idx_managers_todo_id_user_id");
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}